@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+
+/**
+ * Groups the values accepted in a reusable batch and hands the batch to the consumer each time it is full.
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class BatchConsumer<T> implements Consumer<T> {
+
+    private final int batchSize;
+    private final Consumer<List<T>> consumer;
+    private final List<T> batch;
+    private final List<T> batchView;
+
+    BatchConsumer(int batchSize, Consumer<List<T>> consumer) {
+        this.batchSize = validateBatchSize(batchSize);
+        this.consumer = Objects.requireNonNull(consumer);
+        this.batch = new ArrayList<>(batchSize);
+        this.batchView = Collections.unmodifiableList(batch);
+    }
+
+    static int validateBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than zero");
+        }
+
+        return batchSize;
+    }
+
+    @Override
+    public void accept(T value) {
+        batch.add(value);
+
+        if (batch.size() == batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Hands the remaining values to the consumer, if any.
+     */
+    void flush() {
+        if (!batch.isEmpty()) {
+            consumer.accept(batchView);
+            batch.clear();
+        }
+    }
+
+}
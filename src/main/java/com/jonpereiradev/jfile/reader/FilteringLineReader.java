@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokens;
+
+import java.io.IOException;
+import java.util.function.Predicate;
+
+
+/**
+ * Discards the lines rejected by the line filter before they reach the tokenizer, counting them so the line numbers
+ * of the accepted lines remain the numbers of the lines in the file.
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class FilteringLineReader implements LineReader {
+
+    private final LineReader lineReader;
+    private final Predicate<String> lineFilter;
+
+    private long skippedLines;
+
+    FilteringLineReader(LineReader lineReader, Predicate<String> lineFilter) {
+        this.lineReader = lineReader;
+        this.lineFilter = lineFilter;
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        String content;
+
+        skippedLines = 0;
+
+        while ((content = lineReader.readLine()) != null && !lineFilter.test(content)) {
+            skippedLines++;
+        }
+
+        return content;
+    }
+
+    @Override
+    public LineTokens getLineTokens() {
+        return lineReader.getLineTokens();
+    }
+
+    @Override
+    public long getPosition() {
+        return lineReader.getPosition();
+    }
+
+    @Override
+    public long getLineOffset() {
+        return lineReader.getLineOffset();
+    }
+
+    @Override
+    public long getSkippedLines() {
+        return skippedLines;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lineReader.close();
+    }
+
+}
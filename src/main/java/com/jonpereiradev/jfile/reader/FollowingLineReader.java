@@ -0,0 +1,312 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Reads the lines of a file that keeps growing, waiting for new complete lines when the end of the file is reached
+ * until the reader is closed.</p>
+ *
+ * <p>A trailing line without terminator is held until its terminator is written. A file smaller than the position
+ * already read was truncated and is read again from the beginning. A file replaced by another one, detected by the
+ * file key when the file system provides it, is read until its end and then the new file is read from the
+ * beginning.</p>
+ *
+ * <p>The reader waits for changes with a {@link WatchService} on the directory of the file, checking the file at least
+ * once per poll interval, or sleeps with an exponential backoff up to the poll interval when the file system can't be
+ * watched.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class FollowingLineReader implements LineReader {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final long MIN_BACKOFF_MILLIS = 10;
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final Path path;
+    private final LineDecoder lineDecoder;
+    private final long pollIntervalMillis;
+
+    private FileChannel fileChannel;
+    private Object fileKey;
+    private WatchService watchService;
+    private boolean watchServiceUnavailable;
+    private long backoffMillis = MIN_BACKOFF_MILLIS;
+    private volatile boolean closed;
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int start;
+    private int scanned;
+    private int limit;
+    private long bufferPosition;
+    private long lineOffset = -1;
+
+    FollowingLineReader(Path path, Charset charset, long pollIntervalMillis, long position) throws IOException {
+        this.path = path;
+        this.lineDecoder = new LineDecoder(charset);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.bufferPosition = position;
+        open();
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        try {
+            return followLine();
+        } catch (IOException e) {
+            if (closed) {
+                return null;
+            }
+
+            throw e;
+        }
+    }
+
+    @Override
+    public long getPosition() {
+        return bufferPosition + start;
+    }
+
+    @Override
+    public long getLineOffset() {
+        return lineOffset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+
+        try {
+            if (watchService != null) {
+                watchService.close();
+            }
+        } finally {
+            fileChannel.close();
+        }
+    }
+
+    private String followLine() throws IOException {
+        while (!closed) {
+            String line = nextLine();
+
+            if (line != null) {
+                backoffMillis = MIN_BACKOFF_MILLIS;
+                return line;
+            }
+
+            if (read() > 0) {
+                continue;
+            }
+
+            if (isTruncated()) {
+                reopen(0);
+            } else if (isReplaced()) {
+                if (start < limit) {
+                    // the last line of the replaced file ends at its end, without the carriage return held back
+                    return takeLine(buffer[limit - 1] == CR ? limit - 1 : limit, limit);
+                }
+
+                reopen(0);
+            } else if (!await()) {
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+    private String nextLine() {
+        for (int i = scanned; i < limit; i++) {
+            byte value = buffer[i];
+
+            if (value == LF) {
+                return takeLine(i, i + 1);
+            }
+
+            if (value == CR && i + 1 < limit) {
+                return takeLine(i, buffer[i + 1] == LF ? i + 2 : i + 1);
+            }
+
+            if (value == CR) {
+                scanned = i;
+                return null;
+            }
+        }
+
+        scanned = limit;
+        return null;
+    }
+
+    private String takeLine(int end, int next) {
+        String line = lineDecoder.decode(buffer, start, end - start);
+        lineOffset = bufferPosition + start;
+        start = next;
+        scanned = next;
+        return line;
+    }
+
+    private int read() throws IOException {
+        if (limit == buffer.length) {
+            compact();
+        }
+
+        int count = fileChannel.read(ByteBuffer.wrap(buffer, limit, buffer.length - limit), bufferPosition + limit);
+
+        if (count > 0) {
+            limit += count;
+            return count;
+        }
+
+        return 0;
+    }
+
+    private void compact() {
+        if (start == 0) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            return;
+        }
+
+        System.arraycopy(buffer, start, buffer, 0, limit - start);
+        bufferPosition += start;
+        limit -= start;
+        scanned -= start;
+        start = 0;
+    }
+
+    private boolean isTruncated() throws IOException {
+        return fileChannel.size() < bufferPosition + limit;
+    }
+
+    private boolean isReplaced() throws IOException {
+        if (fileKey == null) {
+            return false;
+        }
+
+        try {
+            return !Objects.equals(fileKey, Files.readAttributes(path, BasicFileAttributes.class).fileKey());
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private void open() throws IOException {
+        fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+    }
+
+    private void reopen(long position) throws IOException {
+        fileChannel.close();
+        start = 0;
+        scanned = 0;
+        limit = 0;
+        bufferPosition = position;
+        open();
+    }
+
+    /**
+     * Waits for a change of the file.
+     *
+     * @return false when the reader was closed or the thread interrupted while waiting.
+     */
+    private boolean await() {
+        try {
+            WatchService watcher = getWatchService();
+
+            if (watcher == null) {
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, pollIntervalMillis);
+                return !closed;
+            }
+
+            WatchKey watchKey = watcher.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+
+            if (watchKey != null) {
+                watchKey.pollEvents();
+                watchKey.reset();
+            }
+
+            return !closed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ClosedWatchServiceException e) {
+            return false;
+        }
+    }
+
+    private WatchService getWatchService() {
+        if (watchService == null && !watchServiceUnavailable) {
+            Path directory = path.toAbsolutePath().getParent();
+
+            try {
+                watchService = directory.getFileSystem().newWatchService();
+                directory.register(
+                    watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY
+                );
+            } catch (UnsupportedOperationException | IOException e) {
+                // the directory can't be watched, like on some network file systems, so the file is polled
+                closeWatchService();
+                watchServiceUnavailable = true;
+            }
+        }
+
+        return watchService;
+    }
+
+    private void closeWatchService() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                // the watch service was never used
+            }
+
+            watchService = null;
+        }
+    }
+
+}
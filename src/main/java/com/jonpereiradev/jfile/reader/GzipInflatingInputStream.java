@@ -0,0 +1,301 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+
+/**
+ * <p>Inflates the members of a gzip file in parallel. The content of a file with many members, like the files written
+ * by bgzip or by concatenating gzip files, is the concatenation of the content of its members.</p>
+ *
+ * <p>The end of a member is only known after it is inflated, so the file is scanned for the positions that look like
+ * a gzip header, and each one is inflated speculatively as a member. The file is scanned one window at a time, only
+ * while the candidates found aren't enough to fill the pool, so the first bytes are inflated without reading the
+ * whole file. When a member ends, the reading continues at the candidate that starts right after it, and the
+ * candidates skipped are cancelled. A file with a single member is inflated by a single thread.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class GzipInflatingInputStream extends InflatingInputStream {
+
+    private static final int ID1 = 0x1F;
+    private static final int ID2 = 0x8B;
+    private static final int DEFLATE = 8;
+    private static final int HEADER_SIZE = 10;
+    private static final int TRAILER_SIZE = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    private static final int RESERVED_FLAGS = 0xE0;
+    private static final int SCAN_WINDOW_SIZE = 16 * CHUNK_SIZE;
+
+    private final FileChannel fileChannel;
+    private final long size;
+    private final ByteBuffer scanBuffer = ByteBuffer.allocate(CHUNK_SIZE + 3);
+
+    private long scanPosition;
+
+    private GzipInflatingInputStream(FileChannel fileChannel, int parallelism) throws IOException {
+        super(parallelism);
+        this.fileChannel = fileChannel;
+        this.size = fileChannel.size();
+    }
+
+    static GzipInflatingInputStream newInstance(Path path, int parallelism) throws IOException {
+        FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+
+        try {
+            GzipInflatingInputStream inputStream = new GzipInflatingInputStream(fileChannel, parallelism);
+            inputStream.start(inputStream.findFirstCandidates());
+            return inputStream;
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    void inflate(Segment segment) throws IOException {
+        long position = skipHeader(segment.getStart());
+        Inflater inflater = new Inflater(true);
+        CRC32 crc = new CRC32();
+        byte[] input = new byte[CHUNK_SIZE];
+        byte[] output = new byte[CHUNK_SIZE];
+        long inflatedSize = 0;
+
+        try {
+            while (!inflater.finished()) {
+                if (inflater.needsInput()) {
+                    int read = read(input, position);
+
+                    if (read <= 0) {
+                        throw new EOFException("Unexpected end of GZIP member at " + segment.getStart());
+                    }
+
+                    inflater.setInput(input, 0, read);
+                    position += read;
+                }
+
+                int inflated = inflater.inflate(output);
+
+                if (inflated > 0) {
+                    crc.update(output, 0, inflated);
+                    inflatedSize += inflated;
+
+                    if (!write(segment, output, inflated)) {
+                        return;
+                    }
+                } else if (inflater.needsDictionary()) {
+                    throw new ZipException("Invalid GZIP member at " + segment.getStart());
+                }
+            }
+
+            long trailer = position - inflater.getRemaining();
+            ByteBuffer buffer = readFully(trailer, TRAILER_SIZE);
+
+            if (readInt(buffer, 0) != (int) crc.getValue() || readInt(buffer, 4) != (int) inflatedSize) {
+                throw new ZipException("Corrupt GZIP trailer at " + trailer);
+            }
+
+            segment.setEnd(trailer + TRAILER_SIZE);
+        } catch (DataFormatException e) {
+            throw new ZipException("Invalid GZIP member at " + segment.getStart() + ": " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    boolean findSegments() throws IOException {
+        for (long candidate : scan()) {
+            addSegment(candidate);
+        }
+
+        return scanPosition < size;
+    }
+
+    @Override
+    int nextSegment(Segment segment) throws IOException {
+        List<Segment> segments = getSegments();
+        long end = segment.getEnd();
+
+        for (int i = segment.getIndex() + 1; i < segments.size(); i++) {
+            if (segments.get(i).getStart() == end) {
+                return i;
+            }
+        }
+
+        if (end >= scanPosition && isHeaderAt(end)) {
+            // the member ends after the window scanned, so the scan continues after the next member
+            scanPosition = end + 1;
+            return addSegment(end).getIndex();
+        }
+
+        // the bytes after the last member aren't a gzip header, and are ignored like GZIPInputStream does
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+        fileChannel.close();
+    }
+
+    private List<Long> findFirstCandidates() throws IOException {
+        List<Long> candidates = scan();
+
+        if (candidates.isEmpty() || candidates.get(0) != 0) {
+            throw new ZipException("Not in GZIP format");
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Finds the positions with the magic number, the deflate method and no reserved flags of a gzip header in the next
+     * window of the file.
+     */
+    private List<Long> scan() throws IOException {
+        List<Long> candidates = new ArrayList<>();
+        long windowEnd = Math.min(size, scanPosition + SCAN_WINDOW_SIZE);
+
+        while (scanPosition < windowEnd) {
+            scanBuffer.clear();
+            int read = fileChannel.read(scanBuffer, scanPosition);
+
+            if (read <= 0) {
+                scanPosition = size;
+                break;
+            }
+
+            int limit = Math.min(read, CHUNK_SIZE);
+
+            for (int i = 0; i < limit; i++) {
+                if ((scanBuffer.get(i) & 0xFF) == ID1 && isHeader(scanBuffer, i, read)) {
+                    candidates.add(scanPosition + i);
+                }
+            }
+
+            scanPosition += limit;
+        }
+
+        return Collections.unmodifiableList(candidates);
+    }
+
+    private boolean isHeaderAt(long position) throws IOException {
+        return size - position >= 4 && isHeader(readFully(position, 4), 0, 4);
+    }
+
+    private static boolean isHeader(ByteBuffer buffer, int index, int limit) {
+        return index + 3 < limit
+            && (buffer.get(index + 1) & 0xFF) == ID2
+            && buffer.get(index + 2) == DEFLATE
+            && (buffer.get(index + 3) & RESERVED_FLAGS) == 0;
+    }
+
+    private long skipHeader(long start) throws IOException {
+        ByteBuffer header = readFully(start, HEADER_SIZE);
+        int flags = header.get(3) & 0xFF;
+        long position = start + HEADER_SIZE;
+
+        if ((flags & FEXTRA) != 0) {
+            ByteBuffer extra = readFully(position, 2);
+            position += 2 + ((extra.get(0) & 0xFF) | (extra.get(1) & 0xFF) << 8);
+        }
+
+        if ((flags & FNAME) != 0) {
+            position = skipZeroTerminated(position);
+        }
+
+        if ((flags & FCOMMENT) != 0) {
+            position = skipZeroTerminated(position);
+        }
+
+        if ((flags & FHCRC) != 0) {
+            position += 2;
+        }
+
+        return position;
+    }
+
+    private long skipZeroTerminated(long position) throws IOException {
+        byte[] bytes = new byte[512];
+
+        while (true) {
+            int read = read(bytes, position);
+
+            if (read <= 0) {
+                throw new EOFException("Unexpected end of GZIP header");
+            }
+
+            for (int i = 0; i < read; i++) {
+                if (bytes[i] == 0) {
+                    return position + i + 1;
+                }
+            }
+
+            position += read;
+        }
+    }
+
+    private int read(byte[] bytes, long position) throws IOException {
+        return fileChannel.read(ByteBuffer.wrap(bytes), position);
+    }
+
+    private ByteBuffer readFully(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+
+        while (buffer.hasRemaining()) {
+            if (fileChannel.read(buffer, position + buffer.position()) <= 0) {
+                throw new EOFException("Unexpected end of GZIP file at " + position);
+            }
+        }
+
+        return buffer;
+    }
+
+    private static int readInt(ByteBuffer buffer, int index) {
+        return (buffer.get(index) & 0xFF)
+            | (buffer.get(index + 1) & 0xFF) << 8
+            | (buffer.get(index + 2) & 0xFF) << 16
+            | (buffer.get(index + 3) & 0xFF) << 24;
+    }
+
+}
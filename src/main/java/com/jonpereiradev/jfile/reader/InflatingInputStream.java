@@ -0,0 +1,330 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * <p>Stream of the content of a compressed file made of independent segments, like the members of a gzip file or the
+ * entries of a zip file, inflated by a pool of threads and returned in the order of the segments.</p>
+ *
+ * <p>Each segment writes its inflated bytes in chunks to its own bounded queue, and the segments are submitted to the
+ * pool in order, at most a few segments ahead of the one being read. Since the pool starts the segments in order, the
+ * segment being read is always running or finished, and the memory is bounded by the queues of the segments
+ * ahead. The segments that can't be listed upfront are found with {@link #findSegments()} while the stream is
+ * read.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+abstract class InflatingInputStream extends InputStream {
+
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final int QUEUE_CAPACITY = 16;
+    private static final int SEGMENTS_AHEAD_PER_THREAD = 2;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final byte[] END = new byte[0];
+
+    private final int parallelism;
+    private final List<Segment> segments = new ArrayList<>();
+
+    private ExecutorService executorService;
+    private volatile boolean closed;
+    private boolean scanning = true;
+    private int submitted;
+    private int current;
+    private byte[] chunk = END;
+    private int chunkOffset;
+
+    InflatingInputStream(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Inflates the segment writing its content with {@link #write(Segment, byte[], int)}.
+     *
+     * @param segment the segment to inflate.
+     *
+     * @throws IOException if the segment can't be read or is corrupted.
+     */
+    abstract void inflate(Segment segment) throws IOException;
+
+    /**
+     * Finds more segments after the ones already known, scanning a bounded part of the file at each call. It is called
+     * while the segments known aren't enough to fill the pool ahead of the segment being read.
+     *
+     * @return false when there are no more segments to find.
+     *
+     * @throws IOException if the file can't be scanned.
+     */
+    boolean findSegments() throws IOException {
+        return false;
+    }
+
+    /**
+     * @param segment the segment read until its end.
+     *
+     * @return the index of the segment after it, or -1 when it is the last segment.
+     *
+     * @throws IOException if the next segment can't be found.
+     */
+    int nextSegment(Segment segment) throws IOException {
+        return segment.index + 1 < segments.size() ? segment.index + 1 : -1;
+    }
+
+    /**
+     * Defines the segments of the stream and waits for the first bytes, so {@link #available()} reports if the stream
+     * has content.
+     *
+     * @param starts the position of each segment in the compressed file.
+     *
+     * @throws IOException if the first segment fails.
+     */
+    final void start(List<Long> starts) throws IOException {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        for (Long start : starts) {
+            addSegment(start);
+        }
+
+        executorService = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "jfile-reader-inflater-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        current = segments.isEmpty() ? -1 : 0;
+        submitAhead();
+        nextChunk();
+    }
+
+    /**
+     * Writes inflated bytes of the segment, waiting while its queue is full.
+     *
+     * @return false when the segment was cancelled and must stop inflating.
+     */
+    final boolean write(Segment segment, byte[] bytes, int length) {
+        byte[] copy = new byte[length];
+        System.arraycopy(bytes, 0, copy, 0, length);
+        return put(segment, copy);
+    }
+
+    /**
+     * Adds a segment after the ones already known.
+     *
+     * @param start the position of the segment in the compressed file.
+     *
+     * @return the segment added.
+     */
+    final Segment addSegment(long start) {
+        Segment segment = new Segment(segments.size(), start);
+        segments.add(segment);
+        return segment;
+    }
+
+    final List<Segment> getSegments() {
+        return segments;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+
+        while (chunkOffset == chunk.length) {
+            if (!nextChunk()) {
+                return -1;
+            }
+        }
+
+        int count = Math.min(length, chunk.length - chunkOffset);
+        System.arraycopy(chunk, chunkOffset, bytes, offset, count);
+        chunkOffset += count;
+
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return chunk.length - chunkOffset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private boolean nextChunk() throws IOException {
+        while (current != -1) {
+            Segment segment = segments.get(current);
+            byte[] next = take(segment);
+
+            if (next != END) {
+                chunk = next;
+                chunkOffset = 0;
+                return true;
+            }
+
+            if (segment.failure != null) {
+                throw segment.failure instanceof IOException
+                    ? (IOException) segment.failure
+                    : new IOException(segment.failure);
+            }
+
+            int following = nextSegment(segment);
+
+            for (int i = current; i < (following == -1 ? submitted : following); i++) {
+                segments.get(i).cancel();
+            }
+
+            current = following;
+            submitAhead();
+        }
+
+        chunk = END;
+        chunkOffset = 0;
+        return false;
+    }
+
+    private void submitAhead() throws IOException {
+        int limit = current == -1 ? submitted : current + parallelism * SEGMENTS_AHEAD_PER_THREAD;
+
+        // the segments skipped by the last segment read are never submitted
+        submitted = Math.max(submitted, current);
+
+        if (scanning && limit > segments.size()) {
+            scanning = findSegments();
+        }
+
+        while (submitted < Math.min(limit, segments.size())) {
+            Segment segment = segments.get(submitted++);
+            executorService.execute(() -> run(segment));
+        }
+    }
+
+    private void run(Segment segment) {
+        try {
+            if (!segment.cancelled) {
+                inflate(segment);
+            }
+        } catch (Throwable e) {
+            segment.failure = e;
+        } finally {
+            put(segment, END);
+        }
+    }
+
+    private boolean put(Segment segment, byte[] bytes) {
+        try {
+            while (!segment.chunks.offer(bytes, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (closed || segment.cancelled) {
+                    return false;
+                }
+            }
+
+            return !segment.cancelled;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private byte[] take(Segment segment) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+
+        try {
+            return segment.chunks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Independent part of the compressed file.
+     */
+    static final class Segment {
+
+        private final int index;
+        private final long start;
+        private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+        private volatile boolean cancelled;
+        private volatile Throwable failure;
+        private volatile long end = -1;
+
+        private Segment(int index, long start) {
+            this.index = index;
+            this.start = start;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            chunks.clear();
+        }
+
+        int getIndex() {
+            return index;
+        }
+
+        long getStart() {
+            return start;
+        }
+
+        long getEnd() {
+            return end;
+        }
+
+        void setEnd(long end) {
+            this.end = end;
+        }
+
+    }
+
+}
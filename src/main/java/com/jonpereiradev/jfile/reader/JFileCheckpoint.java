@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Properties;
+
+
+/**
+ * <p>Position of a reader after the last line consumed, with the byte offset of the next line and the number of the
+ * last line, used to reopen the file at the same point with
+ * {@link JFileReaderFactory#newJFileReader(Path, JFileReaderConfig, JFileCheckpoint)}.</p>
+ *
+ * @author jonpereiradev
+ * @see JFileReader#checkpoint()
+ * @since 0.9.0
+ */
+public final class JFileCheckpoint {
+
+    private static final String POSITION_KEY = "position";
+    private static final String LINE_NUMBER_KEY = "lineNumber";
+
+    private final long position;
+    private final long lineNumber;
+
+    private JFileCheckpoint(long position, long lineNumber) {
+        this.position = position;
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * Creates a checkpoint for a position of the file.
+     *
+     * @param position the byte offset of the next line to read, which must be the beginning of a line.
+     * @param lineNumber the number of the last line read before the position, 0 at the beginning of the file.
+     *
+     * @return the checkpoint for the position.
+     */
+    public static JFileCheckpoint newCheckpoint(long position, long lineNumber) {
+        if (position < 0 || lineNumber < 0) {
+            throw new IllegalArgumentException("Position and line number must not be negative");
+        }
+
+        return new JFileCheckpoint(position, lineNumber);
+    }
+
+    /**
+     * Reads a checkpoint saved by {@link #save(Path)}.
+     *
+     * @param stateFile the file with the checkpoint.
+     *
+     * @return the checkpoint saved in the file.
+     *
+     * @throws IOException if a problem occurs reading the file or the file is not a checkpoint.
+     */
+    public static JFileCheckpoint load(Path stateFile) throws IOException {
+        Properties properties = new Properties();
+
+        try (InputStream inputStream = Files.newInputStream(stateFile)) {
+            properties.load(inputStream);
+        }
+
+        try {
+            long position = Long.parseLong(properties.getProperty(POSITION_KEY));
+            long lineNumber = Long.parseLong(properties.getProperty(LINE_NUMBER_KEY));
+            return newCheckpoint(position, lineNumber);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("File " + stateFile + " is not a checkpoint", e);
+        }
+    }
+
+    /**
+     * Saves the checkpoint in a small state file. The file is written next to the state file and then moved over it,
+     * so a failure while saving keeps the previous checkpoint.
+     *
+     * @param stateFile the file to save the checkpoint.
+     *
+     * @throws IOException if a problem occurs writing the file.
+     */
+    public void save(Path stateFile) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(POSITION_KEY, Long.toString(position));
+        properties.setProperty(LINE_NUMBER_KEY, Long.toString(lineNumber));
+
+        Path temporaryFile = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+
+        try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+            properties.store(outputStream, null);
+        }
+
+        try {
+            Files.move(temporaryFile, stateFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, stateFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * @return the byte offset of the next line to read.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * @return the number of the last line read before the position.
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        JFileCheckpoint that = (JFileCheckpoint) o;
+        return position == that.position && lineNumber == that.lineNumber;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(position, lineNumber);
+    }
+
+    @Override
+    public String toString() {
+        return "[position=" + position + ", lineNumber=" + lineNumber + "]";
+    }
+
+}
@@ -24,6 +24,8 @@
 package com.jonpereiradev.jfile.reader;
 
 
+import com.jonpereiradev.jfile.reader.file.ParseCache;
+
 import java.text.DateFormat;
 import java.text.DecimalFormat;
 import java.time.format.DateTimeFormatter;
@@ -97,4 +99,21 @@ public interface JFilePatternConfig<T extends JFilePatternConfig<T>> {
      */
     DecimalFormat getBigDecimalFormatter();
 
+    /**
+     * Configure a cache of the {@link java.util.Date}, {@link java.time.LocalDate} and {@link java.math.BigDecimal}
+     * values parsed from the columns, shared by all lines and threads, so a text repeated along the files is parsed
+     * once by each formatter. The least recently used values are evicted when the cache is full. The cache is disabled
+     * by default, and the formatters must not be changed after values were cached.
+     *
+     * @param maximumSize the maximum number of values in the cache, or 0 to disable it.
+     *
+     * @return the type of class returned by the method to allow fluent builder.
+     */
+    T parseCache(int maximumSize);
+
+    /**
+     * @return the cache of the parsed values, or null when it is disabled.
+     */
+    ParseCache getParseCache();
+
 }
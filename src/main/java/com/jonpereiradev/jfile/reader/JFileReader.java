@@ -30,7 +30,10 @@ import com.jonpereiradev.jfile.reader.validator.ValidationReport;
 
 import java.io.Closeable;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -166,8 +169,181 @@ public interface JFileReader extends Iterable<LineValue>, Closeable {
         }
     }
 
+    /**
+     * Iterates over the lines in batches. The list handed to the consumer is reused for the next batch, so its content
+     * must be copied to be kept after the consumer returns. The last batch may be smaller than the batch size. The
+     * readers of a single file fill the batches straight from their line reader, and the other batch methods are built
+     * on this one.
+     *
+     * @param batchSize the maximum number of lines in each batch.
+     * @param consumer the execution for each batch.
+     */
+    default void forEachBatch(int batchSize, Consumer<List<LineValue>> consumer) {
+        BatchConsumer<LineValue> batchConsumer = new BatchConsumer<>(batchSize, consumer);
+
+        for (LineValue lineValue : this) {
+            batchConsumer.accept(lineValue.copy());
+        }
+
+        batchConsumer.flush();
+    }
+
+    /**
+     * Iterates over the lines in batches converting the lines to the class type. The list handed to the consumer is
+     * reused for the next batch.
+     *
+     * @param clazz the class type of the object.
+     * @param batchSize the maximum number of objects in each batch.
+     * @param consumer the execution for each batch.
+     * @param <T> the type of the object.
+     */
+    default <T> void forEachBatch(Class<T> clazz, int batchSize, Consumer<List<T>> consumer) {
+        BatchConsumer<T> batchConsumer = new BatchConsumer<>(batchSize, consumer);
+
+        forEachBatch(batchSize, batch -> {
+            for (LineValue lineValue : batch) {
+                batchConsumer.accept(convert(lineValue, clazz));
+            }
+        });
+
+        batchConsumer.flush();
+    }
+
+    /**
+     * Iterates over the valid lines in batches. The list handed to the consumer is reused for the next batch.
+     *
+     * @param fileValidator the validator that applies validation to the line.
+     * @param batchSize the maximum number of lines in each batch.
+     * @param consumer the execution for each batch.
+     */
+    default void forEachValidBatch(JFileValidator fileValidator, int batchSize, Consumer<List<LineValue>> consumer) {
+        BatchConsumer<LineValue> batchConsumer = new BatchConsumer<>(batchSize, consumer);
+
+        forEachBatch(batchSize, batch -> {
+            for (LineValue lineValue : batch) {
+                if (fileValidator.validate(lineValue).isValid()) {
+                    batchConsumer.accept(lineValue);
+                }
+            }
+        });
+
+        batchConsumer.flush();
+    }
+
+    /**
+     * Iterates over the valid lines in batches converting the lines to the class type. The list handed to the consumer
+     * is reused for the next batch.
+     *
+     * @param fileValidator the validator that applies validation to the line.
+     * @param clazz the class type of the object.
+     * @param batchSize the maximum number of objects in each batch.
+     * @param consumer the execution for each batch.
+     * @param <T> the type of the object.
+     */
+    default <T> void forEachValidBatch(
+        JFileValidator fileValidator,
+        Class<T> clazz,
+        int batchSize,
+        Consumer<List<T>> consumer) {
+        BatchConsumer<T> batchConsumer = new BatchConsumer<>(batchSize, consumer);
+
+        forEachBatch(batchSize, batch -> {
+            for (LineValue lineValue : batch) {
+                if (fileValidator.validate(lineValue).isValid()) {
+                    batchConsumer.accept(convert(lineValue, clazz));
+                }
+            }
+        });
+
+        batchConsumer.flush();
+    }
+
+    /**
+     * Creates a checkpoint with the position after the last line returned by the {@link #iterator()}, to reopen the
+     * file at the next line with {@link JFileReaderFactory#newJFileReader(java.nio.file.Path, JFileReaderConfig,
+     * JFileCheckpoint)}. The readers of a file support checkpoints when the charset encodes the line terminators as
+     * single bytes.
+     *
+     * @return the checkpoint after the last line returned.
+     *
+     * @throws UnsupportedOperationException when the reader doesn't read a file or doesn't track the byte position of
+     * the lines.
+     */
+    default JFileCheckpoint checkpoint() {
+        throw new UnsupportedOperationException("The reader doesn't support checkpoints");
+    }
+
+    /**
+     * Moves the {@link #iterator()} to the line, so the next line returned is the line with this number. Readers
+     * created from a {@link java.nio.file.Path} or {@link java.io.File} jump to the closest line of the
+     * {@link LineIndex} when the file has one, otherwise the lines before it are scanned without being decoded.
+     * The seek replaces the lines skipped by {@link JFileReaderConfig#skipLines(long)}, but the iterator still stops at
+     * the last line of the {@link JFileReaderConfig#limit(long)}.
+     *
+     * @param lineNumber the number of the line, starting at 1.
+     *
+     * @throws UnsupportedOperationException when the reader can't seek, like a reader of an
+     * {@link java.io.InputStream}.
+     */
+    default void seekToLine(long lineNumber) {
+        throw new UnsupportedOperationException("The reader doesn't support seeking to a line");
+    }
+
+    /**
+     * Reads a single line without moving the {@link #iterator()}. Readers created from a {@link java.nio.file.Path} or
+     * {@link java.io.File} jump to the closest line of the {@link LineIndex} when the file has one.
+     *
+     * @param lineNumber the number of the line, starting at 1.
+     *
+     * @return the line with this number.
+     *
+     * @throws java.util.NoSuchElementException when the file has no line with this number.
+     * @throws UnsupportedOperationException when the reader can't seek, like a reader of an
+     * {@link java.io.InputStream}.
+     */
+    default LineValue readLine(long lineNumber) {
+        throw new UnsupportedOperationException("The reader doesn't support reading a line by number");
+    }
+
+    /**
+     * Creates a stream over the lines of the file. Readers created from a {@link java.nio.file.Path} or
+     * {@link java.io.File} read the stream independently of the {@link #iterator()} and split it in byte ranges aligned
+     * on the lines, so the lines are read in parallel with exact line numbers when {@link Stream#parallel()} is used.
+     * In the quoted mode, where a record may span more than one line, and in the follow mode the stream is backed by
+     * the {@link #iterator()}.
+     *
+     * @return the stream of lines.
+     */
     default Stream<LineValue> stream() {
         return StreamSupport.stream(spliterator(), false);
     }
 
+    /**
+     * Creates an iterator over the lines in batches. Each batch is a new list that can be kept or handed to other
+     * threads.
+     *
+     * @param batchSize the maximum number of lines in each batch.
+     *
+     * @return the iterator of batches sharing the position of {@link #iterator()}.
+     */
+    default Iterator<List<LineValue>> batchIterator(int batchSize) {
+        return new LineValueBatchIterator(iterator(), batchSize);
+    }
+
+    /**
+     * Creates a sequential stream over the lines in batches, to fan out the batches to other threads.
+     *
+     * @param batchSize the maximum number of lines in each batch.
+     *
+     * @return the stream of batches.
+     */
+    default Stream<List<LineValue>> batchStream(int batchSize) {
+        Spliterator<List<LineValue>> spliterator = Spliterators.spliteratorUnknownSize(
+            batchIterator(batchSize),
+            Spliterator.ORDERED | Spliterator.NONNULL
+        );
+
+        return StreamSupport.stream(spliterator, false);
+    }
+
 }
@@ -25,8 +25,13 @@ package com.jonpereiradev.jfile.reader;
 
 
 import com.jonpereiradev.jfile.reader.converter.LineValueConverter;
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokenizer;
+import com.jonpereiradev.jfile.reader.validator.JFileValidatorConfig;
 
 import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.SortedSet;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 
@@ -41,15 +46,283 @@ import java.util.regex.Pattern;
 public interface JFileReaderConfig extends JFilePatternConfig<JFileReaderConfig> {
 
     /**
-     * @return the pattern to split the line into columns.
+     * @return the pattern to split the line into columns, or null when the columns are sliced by a fixed-width layout.
      */
     Pattern getPattern();
 
+    /**
+     * @return the tokenizer that splits the line into columns, derived from the {@link #getPattern() pattern} or from
+     * the fixed-width layout.
+     */
+    LineTokenizer getLineTokenizer();
+
+    /**
+     * Configure the reader to parse quoted columns as described by RFC 4180, with the quote escaped by doubling it. A
+     * quoted column may contain the delimiter and line breaks, so a line value may span more than one line of the file
+     * and the line number is the number of the record. The pattern must be a literal delimiter, like {@code ;} or
+     * {@code \\|}.
+     *
+     * @param quote the character that encloses a quoted column.
+     *
+     * @return the object with the quoted mode configured.
+     */
+    JFileReaderConfig quoted(char quote);
+
+    /**
+     * Configure the reader to parse quoted columns where a quote inside the column is preceded by an escape character,
+     * like a backslash. The escape character also escapes itself.
+     *
+     * @param quote the character that encloses a quoted column.
+     * @param escape the character that escapes a quote inside a quoted column.
+     *
+     * @return the object with the quoted mode configured.
+     *
+     * @see #quoted(char)
+     */
+    JFileReaderConfig quoted(char quote, char escape);
+
+    /**
+     * @return true if the columns may be quoted.
+     */
+    boolean isQuoted();
+
     /**
      * @return the charset of the file content.
      */
     Charset getCharset();
 
+    /**
+     * Configure the reader to scan the lines straight from a memory-mapped region of the file instead of copying the
+     * bytes through an {@link java.io.InputStream}. Applies only to readers created from a {@link java.nio.file.Path}
+     * or {@link java.io.File} with a charset that encodes line terminators as single bytes, like UTF-8 or ISO-8859-1.
+     *
+     * @param memoryMapped true to read the file from a memory-mapped region.
+     *
+     * @return the object with the memory-mapped mode configured.
+     */
+    JFileReaderConfig memoryMapped(boolean memoryMapped);
+
+    /**
+     * @return true if the file must be read from a memory-mapped region.
+     */
+    boolean isMemoryMapped();
+
+    /**
+     * Configure the reader to refill a single {@link com.jonpereiradev.jfile.reader.file.ReusableLineValue} with each
+     * line instead of allocating new line and column values. A line is only valid until the next line is read, use
+     * {@link com.jonpereiradev.jfile.reader.file.LineValue#copy()} to keep it after that.
+     *
+     * @param reusableLineValue true to reuse the same line value for all lines.
+     *
+     * @return the object with the reusable line value mode configured.
+     */
+    JFileReaderConfig reusableLineValue(boolean reusableLineValue);
+
+    /**
+     * @return true if the reader reuses the same line value for all lines.
+     */
+    boolean isReusableLineValue();
+
+    /**
+     * Configure the reader to read and tokenize the lines in a dedicated thread, ahead of the consumer, so the I/O
+     * overlaps with the processing of the lines. The order of the lines returned by the iterator is kept.
+     *
+     * @param depth the number of lines buffered ahead, at least 2, or 0 to read the lines in the consumer thread.
+     *
+     * @return the object with the read-ahead depth configured.
+     */
+    JFileReaderConfig readAhead(int depth);
+
+    /**
+     * @return the number of lines buffered ahead, or 0 when the read-ahead is disabled.
+     */
+    int getReadAheadDepth();
+
+    /**
+     * Configure how the reader thread and the consumer thread wait for each other. The default is
+     * {@link ReadAheadWaitStrategy#BLOCKING}.
+     *
+     * @param waitStrategy the wait strategy of the read-ahead buffer.
+     *
+     * @return the object with the wait strategy configured.
+     */
+    JFileReaderConfig readAheadWaitStrategy(ReadAheadWaitStrategy waitStrategy);
+
+    /**
+     * @return the wait strategy of the read-ahead buffer.
+     */
+    ReadAheadWaitStrategy getReadAheadWaitStrategy();
+
+    /**
+     * Configure the reader to skip the first lines of the file, like a header. The skipped lines are never tokenized
+     * into line values, and readers created from a {@link java.nio.file.Path} or {@link java.io.File} jump over them
+     * at the byte level, using the {@link LineIndex} when the file has one. The line numbers are still the numbers of
+     * the lines in the file.
+     *
+     * @param lines the number of lines to skip.
+     *
+     * @return the object with the lines to skip configured.
+     */
+    JFileReaderConfig skipLines(long lines);
+
+    /**
+     * @return the number of lines skipped at the beginning of the file.
+     */
+    long getSkipLines();
+
+    /**
+     * Configure the maximum number of lines read after the skipped lines. The reader stops at the last line without
+     * reading the rest of the file.
+     *
+     * @param lines the maximum number of lines to read.
+     *
+     * @return the object with the limit configured.
+     */
+    JFileReaderConfig limit(long lines);
+
+    /**
+     * @return the maximum number of lines read after the skipped lines, {@link Long#MAX_VALUE} when unlimited.
+     */
+    long getLimit();
+
+    /**
+     * Configure the reader to read only the lines between two line numbers, inclusive, which is the same as skipping
+     * the lines before the first line and limiting the lines read to the size of the range.
+     *
+     * @param fromLine the number of the first line to read, starting at 1.
+     * @param toLine the number of the last line to read.
+     *
+     * @return the object with the range of lines configured.
+     */
+    JFileReaderConfig lineRange(long fromLine, long toLine);
+
+    /**
+     * Configure the columns used from each line. The tokenizer stops after the last projected column without scanning
+     * the rest of the line, so a line has at most that number of columns and keeps its trailing empty columns when the
+     * content continues after them. The columns before it that aren't projected are never materialized unless they
+     * are requested. Each call adds columns to the projection, and quoted columns are always scanned to the end of the
+     * record.
+     *
+     * @param columnNumbers the numbers of the columns, starting at 1.
+     *
+     * @return the object with the columns projected.
+     */
+    JFileReaderConfig projection(int... columnNumbers);
+
+    /**
+     * Configure the projection with the columns of the {@link com.jonpereiradev.jfile.reader.converter.FileColumn}
+     * fields of a class converted from the lines.
+     *
+     * @param clazz the class with the {@link com.jonpereiradev.jfile.reader.converter.FileColumn} fields.
+     *
+     * @return the object with the columns of the class projected.
+     *
+     * @see #projection(int...)
+     */
+    JFileReaderConfig projection(Class<?> clazz);
+
+    /**
+     * Configure the projection with the columns that have rules in the validator, including the columns referenced by
+     * the rules, in addition to the columns already projected. A validator with line rules that depend on every
+     * column, like the column size rule, makes the projection cover every column.
+     *
+     * @param validatorConfig the configuration of the validator of the lines.
+     *
+     * @return the object with the columns of the validator projected.
+     *
+     * @see #projection(int...)
+     */
+    JFileReaderConfig projection(JFileValidatorConfig validatorConfig);
+
+    /**
+     * @return the numbers of the projected columns, empty when all columns are read.
+     */
+    SortedSet<Integer> getProjection();
+
+    /**
+     * Configure a filter over the raw content of the lines, evaluated before the line is split into columns. A
+     * rejected line is never tokenized nor converted, but it still counts for the line numbers and for the
+     * {@link #lineRange(long, long) range of lines}. Each call combines the filter with the previous ones, and the
+     * {@link LineFilter} has literal matchers faster than a regex. In quoted mode the filter receives the whole record.
+     *
+     * @param lineFilter the predicate that accepts the content of a line.
+     *
+     * @return the object with the line filter configured.
+     */
+    JFileReaderConfig lineFilter(Predicate<String> lineFilter);
+
+    /**
+     * @return the filter of the raw lines, or null when every line is read.
+     */
+    Predicate<String> getLineFilter();
+
+    /**
+     * Configure the reader to follow a file that keeps growing, like {@code tail -f}. When the end of the file is
+     * reached the iterator waits for new complete lines instead of finishing, until the reader is closed or the thread
+     * is interrupted. A truncated file is read again from the beginning, and a replaced file is read until its end
+     * before the new file is read. Applies only to readers created from a {@link java.nio.file.Path} or
+     * {@link java.io.File} with a charset that encodes line terminators as single bytes.
+     *
+     * @param follow true to wait for new lines at the end of the file.
+     *
+     * @return the object with the follow mode configured.
+     */
+    JFileReaderConfig follow(boolean follow);
+
+    /**
+     * @return true if the reader waits for new lines at the end of the file.
+     */
+    boolean isFollow();
+
+    /**
+     * Configure the maximum time the follow mode waits before checking the file again when no change is notified. The
+     * default is one second.
+     *
+     * @param pollInterval the maximum time between two checks of the file.
+     *
+     * @return the object with the poll interval configured.
+     */
+    JFileReaderConfig followPollInterval(Duration pollInterval);
+
+    /**
+     * @return the maximum time between two checks of the file in the follow mode.
+     */
+    Duration getFollowPollInterval();
+
+    /**
+     * Configure the number of files read at the same time by a reader of many files, and the number of gzip members
+     * or zip entries inflated at the same time by a reader of a compressed file. The default is the number of
+     * available processors.
+     *
+     * @param parallelism the number of threads reading files.
+     *
+     * @return the object with the parallelism configured.
+     *
+     * @see JFileReaderFactory#newJFileReader(java.util.List, JFileReaderConfig)
+     * @see JFileReaderFactory#newCompressedJFileReader(java.nio.file.Path, JFileReaderConfig)
+     */
+    JFileReaderConfig fileParallelism(int parallelism);
+
+    /**
+     * @return the number of files read at the same time by a reader of many files.
+     */
+    int getFileParallelism();
+
+    /**
+     * Configure if a reader of many files returns the lines file after file, in the order of the files, or as soon as
+     * any file produces them. The default is ordered.
+     *
+     * @param orderedFiles false to return the lines in the order they are read from all files.
+     *
+     * @return the object with the order of the files configured.
+     */
+    JFileReaderConfig orderedFiles(boolean orderedFiles);
+
+    /**
+     * @return true if a reader of many files returns the lines in the order of the files.
+     */
+    boolean isOrderedFiles();
+
     /**
      * @return the converter responsible to transform a line into an object.
      */
@@ -24,19 +24,38 @@
 package com.jonpereiradev.jfile.reader;
 
 
+import com.jonpereiradev.jfile.reader.converter.FileColumn;
 import com.jonpereiradev.jfile.reader.converter.LineValueConverter;
 import com.jonpereiradev.jfile.reader.converter.ReflectionLineValueConverter;
+import com.jonpereiradev.jfile.reader.file.ParseCache;
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokenizer;
+import com.jonpereiradev.jfile.reader.validator.JFileValidatorConfig;
+import com.jonpereiradev.jfile.reader.validator.rule.RuleNode;
+import com.jonpereiradev.jfile.reader.validator.rule.column.ColumnRule;
+import com.jonpereiradev.jfile.reader.validator.rule.column.RefRule;
+import com.jonpereiradev.jfile.reader.validator.rule.line.LineRecordTypeRule;
+import com.jonpereiradev.jfile.reader.validator.rule.line.LineRule;
 
+import java.lang.reflect.Field;
 import java.nio.charset.Charset;
 import java.text.DateFormat;
 import java.text.DecimalFormat;
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 
 final class JFileReaderConfigImpl implements JFileReaderConfig {
 
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
     private final Pattern pattern;
+    private LineTokenizer lineTokenizer;
     private final Charset charset;
     private final LineValueConverter lineValueConverter;
 
@@ -44,9 +63,34 @@ final class JFileReaderConfigImpl implements JFileReaderConfig {
     private DateTimeFormatter localDateFormatter;
     private DateTimeFormatter localDateTimeFormatter;
     private DecimalFormat bigDecimalFormatter;
+    private ParseCache parseCache;
+    private boolean quoted;
+    private boolean memoryMapped;
+    private boolean reusableLineValue;
+    private int readAheadDepth;
+    private ReadAheadWaitStrategy readAheadWaitStrategy = ReadAheadWaitStrategy.BLOCKING;
+    private long skipLines;
+    private long limit = Long.MAX_VALUE;
+    private final SortedSet<Integer> projection = new TreeSet<>();
+    private boolean allColumnsProjected;
+    private LineTokenizer projectedTokenizer;
+    private Predicate<String> lineFilter;
+    private boolean follow;
+    private Duration followPollInterval = Duration.ofSeconds(1);
+    private int fileParallelism = Runtime.getRuntime().availableProcessors();
+    private boolean orderedFiles = true;
 
     JFileReaderConfigImpl(Pattern pattern, Charset charset) {
+        this(pattern, newLineTokenizer(pattern), charset);
+    }
+
+    JFileReaderConfigImpl(LineTokenizer lineTokenizer, Charset charset) {
+        this(null, lineTokenizer, charset);
+    }
+
+    private JFileReaderConfigImpl(Pattern pattern, LineTokenizer lineTokenizer, Charset charset) {
         this.pattern = pattern;
+        this.lineTokenizer = lineTokenizer;
         this.charset = charset;
         this.lineValueConverter = new ReflectionLineValueConverter(this);
         this.dateFormat = DateFormat.getInstance();
@@ -100,19 +144,337 @@ final class JFileReaderConfigImpl implements JFileReaderConfig {
         return bigDecimalFormatter;
     }
 
+    @Override
+    public JFileReaderConfig parseCache(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum size of the parse cache must not be negative");
+        }
+
+        this.parseCache = maximumSize == 0 ? null : ParseCache.newParseCache(maximumSize);
+        return this;
+    }
+
+    @Override
+    public ParseCache getParseCache() {
+        return parseCache;
+    }
+
     @Override
     public Pattern getPattern() {
         return pattern;
     }
 
+    @Override
+    public LineTokenizer getLineTokenizer() {
+        if (projectedTokenizer == null) {
+            boolean limited = !projection.isEmpty() && !allColumnsProjected;
+            projectedTokenizer = limited ? lineTokenizer.limit(projection.last()) : lineTokenizer;
+        }
+
+        return projectedTokenizer;
+    }
+
+    @Override
+    public JFileReaderConfig quoted(char quote) {
+        return quoted(quote, quote);
+    }
+
+    @Override
+    public JFileReaderConfig quoted(char quote, char escape) {
+        String delimiter = pattern == null ? null : toLiteralDelimiter(pattern);
+
+        if (delimiter == null) {
+            throw new IllegalStateException("The quoted mode requires a literal delimiter pattern");
+        }
+
+        this.lineTokenizer = LineTokenizer.newQuotedTokenizer(delimiter, quote, escape);
+        this.projectedTokenizer = null;
+        this.quoted = true;
+        return this;
+    }
+
+    @Override
+    public boolean isQuoted() {
+        return quoted;
+    }
+
     @Override
     public Charset getCharset() {
         return charset;
     }
 
+    @Override
+    public JFileReaderConfig memoryMapped(boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+        return this;
+    }
+
+    @Override
+    public boolean isMemoryMapped() {
+        return memoryMapped;
+    }
+
+    @Override
+    public JFileReaderConfig reusableLineValue(boolean reusableLineValue) {
+        this.reusableLineValue = reusableLineValue;
+        return this;
+    }
+
+    @Override
+    public boolean isReusableLineValue() {
+        return reusableLineValue;
+    }
+
+    @Override
+    public JFileReaderConfig readAhead(int depth) {
+        if (depth != 0 && depth < 2) {
+            throw new IllegalArgumentException("Read-ahead depth must be 0 or at least 2");
+        }
+
+        this.readAheadDepth = depth;
+        return this;
+    }
+
+    @Override
+    public int getReadAheadDepth() {
+        return readAheadDepth;
+    }
+
+    @Override
+    public JFileReaderConfig readAheadWaitStrategy(ReadAheadWaitStrategy waitStrategy) {
+        this.readAheadWaitStrategy = Objects.requireNonNull(waitStrategy, "ReadAheadWaitStrategy is required");
+        return this;
+    }
+
+    @Override
+    public ReadAheadWaitStrategy getReadAheadWaitStrategy() {
+        return readAheadWaitStrategy;
+    }
+
+    @Override
+    public JFileReaderConfig skipLines(long lines) {
+        if (lines < 0) {
+            throw new IllegalArgumentException("Lines to skip must not be negative");
+        }
+
+        this.skipLines = lines;
+        return this;
+    }
+
+    @Override
+    public long getSkipLines() {
+        return skipLines;
+    }
+
+    @Override
+    public JFileReaderConfig limit(long lines) {
+        if (lines < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+
+        this.limit = lines;
+        return this;
+    }
+
+    @Override
+    public long getLimit() {
+        return limit;
+    }
+
+    @Override
+    public JFileReaderConfig lineRange(long fromLine, long toLine) {
+        if (fromLine < 1 || toLine < fromLine - 1) {
+            throw new IllegalArgumentException("Invalid range of lines from " + fromLine + " to " + toLine);
+        }
+
+        return skipLines(fromLine - 1).limit(toLine - fromLine + 1);
+    }
+
+    @Override
+    public JFileReaderConfig projection(int... columnNumbers) {
+        for (int columnNumber : columnNumbers) {
+            if (columnNumber < 1) {
+                throw new IllegalArgumentException("Column number must be greater than zero");
+            }
+        }
+
+        for (int columnNumber : columnNumbers) {
+            projection.add(columnNumber);
+        }
+
+        projectedTokenizer = null;
+        return this;
+    }
+
+    @Override
+    public JFileReaderConfig projection(Class<?> clazz) {
+        SortedSet<Integer> columnNumbers = new TreeSet<>();
+
+        for (Field field : clazz.getDeclaredFields()) {
+            FileColumn fileColumn = field.getAnnotation(FileColumn.class);
+
+            if (fileColumn != null) {
+                columnNumbers.add(fileColumn.value());
+            }
+        }
+
+        if (columnNumbers.isEmpty()) {
+            throw new IllegalArgumentException("No FileColumn declared in " + clazz.getName());
+        }
+
+        return projection(columnNumbers.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    @Override
+    public JFileReaderConfig projection(JFileValidatorConfig validatorConfig) {
+        for (LineRule lineRule : validatorConfig.getRuleRoot().getLineRootNode()) {
+            if (!(lineRule instanceof LineRecordTypeRule)) {
+                // the rule depends on every column, which covers the columns projected by the other calls
+                allColumnsProjected = true;
+            }
+        }
+
+        SortedSet<Integer> columnNumbers = new TreeSet<>();
+        addRuleColumns(validatorConfig.getRuleRoot().getColumnRootNode(), columnNumbers);
+
+        return projection(columnNumbers.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    @Override
+    public SortedSet<Integer> getProjection() {
+        return allColumnsProjected ? Collections.emptySortedSet() : Collections.unmodifiableSortedSet(projection);
+    }
+
+    @Override
+    public JFileReaderConfig lineFilter(Predicate<String> lineFilter) {
+        Objects.requireNonNull(lineFilter, "Line filter is required");
+        this.lineFilter = this.lineFilter == null ? lineFilter : this.lineFilter.and(lineFilter);
+        return this;
+    }
+
+    @Override
+    public Predicate<String> getLineFilter() {
+        return lineFilter;
+    }
+
+    @Override
+    public JFileReaderConfig follow(boolean follow) {
+        this.follow = follow;
+        return this;
+    }
+
+    @Override
+    public boolean isFollow() {
+        return follow;
+    }
+
+    @Override
+    public JFileReaderConfig followPollInterval(Duration pollInterval) {
+        Objects.requireNonNull(pollInterval, "Poll interval is required");
+
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("Poll interval must be positive");
+        }
+
+        this.followPollInterval = pollInterval;
+        return this;
+    }
+
+    @Override
+    public Duration getFollowPollInterval() {
+        return followPollInterval;
+    }
+
+    @Override
+    public JFileReaderConfig fileParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("File parallelism must be greater than zero");
+        }
+
+        this.fileParallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public int getFileParallelism() {
+        return fileParallelism;
+    }
+
+    @Override
+    public JFileReaderConfig orderedFiles(boolean orderedFiles) {
+        this.orderedFiles = orderedFiles;
+        return this;
+    }
+
+    @Override
+    public boolean isOrderedFiles() {
+        return orderedFiles;
+    }
+
     @Override
     public LineValueConverter getLineValueConverter() {
         return lineValueConverter;
     }
 
+    private static void addRuleColumns(RuleNode<ColumnRule> ruleNode, SortedSet<Integer> columnNumbers) {
+        for (ColumnRule columnRule : ruleNode) {
+            columnNumbers.add(columnRule.getColumnNumber());
+
+            if (columnRule instanceof RefRule && ((RefRule) columnRule).getRefColumnNumber() != -1) {
+                columnNumbers.add(((RefRule) columnRule).getRefColumnNumber());
+            }
+
+            if (columnRule.getRuleNode() != null) {
+                addRuleColumns(columnRule.getRuleNode(), columnNumbers);
+            }
+        }
+    }
+
+    private static LineTokenizer newLineTokenizer(Pattern pattern) {
+        String delimiter = toLiteralDelimiter(pattern);
+
+        if (delimiter == null) {
+            return LineTokenizer.newPatternTokenizer(pattern);
+        }
+
+        return LineTokenizer.newDelimiterTokenizer(delimiter);
+    }
+
+    /**
+     * Converts the pattern to the literal text it matches, or null when the pattern has any regex construct or a flag
+     * that changes the matching of a literal, like the case insensitive flags.
+     */
+    private static String toLiteralDelimiter(Pattern pattern) {
+        String regex = pattern.pattern();
+
+        if ((pattern.flags() & Pattern.LITERAL) != 0) {
+            boolean caseInsensitive = (pattern.flags() & (Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)) != 0;
+            return regex.isEmpty() || caseInsensitive ? null : regex;
+        }
+
+        if (pattern.flags() != 0 || regex.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder delimiter = new StringBuilder(regex.length());
+
+        for (int i = 0; i < regex.length(); i++) {
+            char character = regex.charAt(i);
+
+            if (character == '\\') {
+                if (++i == regex.length() || Character.isLetterOrDigit(regex.charAt(i))) {
+                    return null;
+                }
+
+                delimiter.append(regex.charAt(i));
+            } else if (REGEX_METACHARACTERS.indexOf(character) != -1) {
+                return null;
+            } else {
+                delimiter.append(character);
+            }
+        }
+
+        return delimiter.toString();
+    }
+
 }
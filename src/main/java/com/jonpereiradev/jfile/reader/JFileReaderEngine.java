@@ -25,48 +25,158 @@ package com.jonpereiradev.jfile.reader;
 
 
 import com.jonpereiradev.jfile.reader.converter.LineValueConverter;
-import com.jonpereiradev.jfile.reader.file.ColumnValue;
 import com.jonpereiradev.jfile.reader.file.LineValue;
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokens;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.SortedSet;
-import java.util.TreeSet;
-import java.util.regex.Pattern;
-
-import static com.jonpereiradev.jfile.reader.file.ColumnValue.newColumnValue;
-import static com.jonpereiradev.jfile.reader.file.LineValue.newLineValue;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 final class JFileReaderEngine implements JFileReader {
 
+    private static final int RANDOM_ACCESS_WINDOW_SIZE = 64 * 1024;
+
     private final JFileReaderConfig readerConfig;
     private final LineValueConverter lineValueConverter;
-    private final BufferedReader bufferedReader;
-    private final Iterator<LineValue> iterator;
 
-    private JFileReaderEngine(InputStream inputStream, JFileReaderConfig readerConfig) {
+    private final Path path;
+    private final JFileReaderIterator iterator;
+
+    private LineReader lineReader;
+    private FileChannel streamChannel;
+    private LineIndex lineIndex;
+    private boolean lineIndexLoaded;
+
+    private JFileReaderEngine(LineReader lineReader, JFileReaderConfig readerConfig, Path path) {
+        this(lineReader, readerConfig, path, 0);
+    }
+
+    private JFileReaderEngine(LineReader lineReader, JFileReaderConfig readerConfig, Path path, long lineNumber) {
         this.readerConfig = readerConfig;
         this.lineValueConverter = readerConfig.getLineValueConverter();
-        this.bufferedReader = new BufferedReader(new InputStreamReader(inputStream, readerConfig.getCharset()));
+        this.lineReader = newLineReader(lineReader, readerConfig);
+        this.path = path;
         this.iterator = new JFileReaderIterator();
+        this.iterator.reset(lineNumber);
     }
 
     static JFileReaderEngine newInstance(InputStream inputStream, JFileReaderConfig readerConfig) throws IOException {
         validateInputStream(inputStream);
-        return new JFileReaderEngine(inputStream, readerConfig);
+        LineReader lineReader = newStreamLineReader(inputStream, readerConfig.getCharset());
+        return new JFileReaderEngine(lineReader, readerConfig, null);
+    }
+
+    static JFileReaderEngine newInstance(Path path, JFileReaderConfig readerConfig) throws IOException {
+        if (readerConfig.isFollow()) {
+            return new JFileReaderEngine(newFollowingLineReader(path, readerConfig, 0), readerConfig, path);
+        }
+
+        if (readerConfig.isMemoryMapped() && MappedLineReader.isSupported(readerConfig.getCharset())) {
+            FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+            validateFileChannel(fileChannel);
+            LineReader lineReader = new MappedLineReader(fileChannel, readerConfig.getCharset());
+            return new JFileReaderEngine(lineReader, readerConfig, path);
+        }
+
+        InputStream inputStream = Files.newInputStream(path);
+        validateInputStream(inputStream);
+        LineReader lineReader = newStreamLineReader(inputStream, readerConfig.getCharset());
+        return new JFileReaderEngine(lineReader, readerConfig, path);
+    }
+
+    static JFileReaderEngine newInstance(
+        Path path,
+        JFileReaderConfig readerConfig,
+        JFileCheckpoint checkpoint) throws IOException {
+        if (!MappedLineReader.isSupported(readerConfig.getCharset())) {
+            throw new IllegalArgumentException("Charset " + readerConfig.getCharset() + " doesn't support checkpoints");
+        }
+
+        if (readerConfig.isFollow()) {
+            LineReader lineReader = newFollowingLineReader(path, readerConfig, checkpoint.getPosition());
+            return new JFileReaderEngine(lineReader, readerConfig, path, checkpoint.getLineNumber());
+        }
+
+        FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        long size = fileChannel.size();
+
+        if (checkpoint.getPosition() > size) {
+            fileChannel.close();
+            throw new IOException("Checkpoint position " + checkpoint.getPosition() + " is after the end of the file");
+        }
+
+        Charset charset = readerConfig.getCharset();
+        int windowSize = MappedLineReader.DEFAULT_WINDOW_SIZE;
+        LineReader lineReader = new MappedLineReader(fileChannel, charset, windowSize, checkpoint.getPosition(), size);
+        return new JFileReaderEngine(lineReader, readerConfig, path, checkpoint.getLineNumber());
+    }
+
+    /**
+     * Creates a reader that scans the bytes of the stream and builds each line on its own, so ASCII lines skip the
+     * charset decoder, falling back to an {@link java.io.InputStreamReader} for charsets with multi-byte terminators.
+     */
+    private static LineReader newStreamLineReader(InputStream inputStream, Charset charset) {
+        if (MappedLineReader.isSupported(charset)) {
+            return new StreamLineReader(inputStream, charset);
+        }
+
+        return new BufferedLineReader(inputStream, charset);
+    }
+
+    private static LineReader newFollowingLineReader(
+        Path path,
+        JFileReaderConfig readerConfig,
+        long position) throws IOException {
+        if (!MappedLineReader.isSupported(readerConfig.getCharset())) {
+            throw new IllegalArgumentException("Charset " + readerConfig.getCharset() + " can't be followed");
+        }
+
+        long pollIntervalMillis = readerConfig.getFollowPollInterval().toMillis();
+        return new FollowingLineReader(path, readerConfig.getCharset(), Math.max(1, pollIntervalMillis), position);
+    }
+
+    private static LineReader newLineReader(LineReader lineReader, JFileReaderConfig readerConfig) {
+        LineReader recordReader = readerConfig.isQuoted() ? new QuotedLineReader(lineReader, readerConfig) : lineReader;
+
+        if (readerConfig.getLineFilter() != null) {
+            recordReader = new FilteringLineReader(recordReader, readerConfig.getLineFilter());
+        }
+
+        if (readerConfig.getReadAheadDepth() > 0) {
+            return new ReadAheadLineReader(recordReader, readerConfig);
+        }
+
+        return recordReader;
     }
 
     private static void validateInputStream(InputStream inputStream) throws IOException {
         if (inputStream.available() == 0) {
+            inputStream.close();
             throw new IOException("InputStream doesn't have bytes to read");
         }
     }
 
+    private static void validateFileChannel(FileChannel fileChannel) throws IOException {
+        if (fileChannel.size() == 0) {
+            fileChannel.close();
+            throw new IOException("FileChannel doesn't have bytes to read");
+        }
+    }
+
     @Override
     public Iterator<LineValue> iterator() {
         return iterator;
@@ -89,64 +199,357 @@ final class JFileReaderEngine implements JFileReader {
         return lineValueConverter.convert(lineValue, toClass);
     }
 
+    @Override
+    public Stream<LineValue> stream() {
+        if (path == null || !isSplittable()) {
+            return JFileReader.super.stream();
+        }
+
+        try {
+            return StreamSupport.stream(newLineRangeSpliterator(getStreamChannel()), false);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Fills a reusable array with the lines of each batch, so the batches are read without the iterator calls of each
+     * line and without growing a list.
+     */
+    @Override
+    public void forEachBatch(int batchSize, Consumer<List<LineValue>> consumer) {
+        LineValue[] batch = new LineValue[BatchConsumer.validateBatchSize(batchSize)];
+        List<LineValue> batchView = Collections.unmodifiableList(Arrays.asList(batch));
+        Objects.requireNonNull(consumer);
+        int count;
+
+        while ((count = iterator.fill(batch)) == batch.length) {
+            consumer.accept(batchView);
+        }
+
+        if (count > 0) {
+            consumer.accept(batchView.subList(0, count));
+        }
+    }
+
+    @Override
+    public Iterator<List<LineValue>> batchIterator(int batchSize) {
+        return new LineValueBatchIterator(iterator, iterator::fill, batchSize);
+    }
+
+    @Override
+    public JFileCheckpoint checkpoint() {
+        if (path == null || iterator.position < 0) {
+            throw new UnsupportedOperationException("The reader doesn't track the byte position of the lines");
+        }
+
+        return JFileCheckpoint.newCheckpoint(iterator.position, iterator.lineNumber);
+    }
+
+    @Override
+    public void seekToLine(long lineNumber) {
+        validateSeek(lineNumber);
+
+        try {
+            moveToLine(lineNumber);
+            iterator.rangeSkipped = true;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public LineValue readLine(long lineNumber) {
+        validateSeek(lineNumber);
+
+        try {
+            MappedLineReader mappedLineReader = newMappedLineReader(getStreamChannel(), RANDOM_ACCESS_WINDOW_SIZE);
+            boolean found = skipToLine(mappedLineReader, lineNumber) == lineNumber;
+            long offset = mappedLineReader.getPosition();
+            String content = found ? mappedLineReader.readLine() : null;
+
+            if (content == null) {
+                throw new NoSuchElementException("The file has no line " + lineNumber);
+            }
+
+            LineTokens lineTokens = new LineTokens();
+            readerConfig.getLineTokenizer().tokenize(content, lineTokens);
+
+            return LineValue.newLineValue(readerConfig, lineNumber, offset, content, lineTokens);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     @Override
     public void close() throws IOException {
-        bufferedReader.close();
+        lineReader.close();
+
+        if (streamChannel != null) {
+            streamChannel.close();
+        }
+    }
+
+    private void validateSeek(long lineNumber) {
+        if (path == null || !isSplittable()) {
+            throw new UnsupportedOperationException("The reader can't seek to a line of the file");
+        }
+
+        if (lineNumber < 1) {
+            throw new IllegalArgumentException("Line number must be greater than zero");
+        }
+    }
+
+    /**
+     * Checks if the lines of the file can be found by scanning the bytes of any part of the file, which isn't the case
+     * of quoted records spanning lines or of a file that keeps growing.
+     */
+    private boolean isSplittable() {
+        return !readerConfig.isQuoted()
+            && !readerConfig.isFollow()
+            && MappedLineReader.isSupported(readerConfig.getCharset());
+    }
+
+    /**
+     * Creates a reader of the whole file, positioned at the first line.
+     */
+    private MappedLineReader newMappedLineReader(FileChannel fileChannel, int windowSize) throws IOException {
+        return new MappedLineReader(fileChannel, readerConfig.getCharset(), windowSize, 0, fileChannel.size());
+    }
+
+    /**
+     * Replaces the line reader by a reader of the file positioned at the line.
+     */
+    private void moveToLine(long lineNumber) throws IOException {
+        FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        MappedLineReader mappedLineReader = newMappedLineReader(fileChannel, MappedLineReader.DEFAULT_WINDOW_SIZE);
+        long currentLineNumber = skipToLine(mappedLineReader, lineNumber);
+
+        lineReader.close();
+        lineReader = newLineReader(mappedLineReader, readerConfig);
+        iterator.reset(currentLineNumber - 1);
+    }
+
+    /**
+     * Moves the iterator to the first line of the configured range without tokenizing the skipped lines, jumping over
+     * them at the byte level when the file is splittable and discarding their content otherwise.
+     */
+    private void skipToFirstLine() throws IOException {
+        long firstLine = readerConfig.getSkipLines() + 1;
+
+        if (iterator.lineNumber + 1 >= firstLine) {
+            return;
+        }
+
+        if (path != null && isSplittable()) {
+            moveToLine(firstLine);
+            return;
+        }
+
+        String content;
+
+        while (iterator.lineNumber + 1 < firstLine && (content = lineReader.readLine()) != null) {
+            long skippedLines = lineReader.getSkippedLines();
+
+            if (iterator.lineNumber + skippedLines + 1 >= firstLine) {
+                // the filter rejected the lines before the range, so the line read is already inside it
+                iterator.lastLineFromReader = content;
+                iterator.nextPosition = lineReader.getPosition();
+                iterator.nextSkippedLines = skippedLines;
+                return;
+            }
+
+            iterator.lineNumber += skippedLines + 1;
+            iterator.position = lineReader.getPosition();
+        }
+    }
+
+    /**
+     * @return the number of the last line of the configured range.
+     */
+    private long getLastLine() {
+        long skipLines = readerConfig.getSkipLines();
+        long limit = readerConfig.getLimit();
+
+        return limit > Long.MAX_VALUE - skipLines ? Long.MAX_VALUE : skipLines + limit;
+    }
+
+    /**
+     * Creates a spliterator over the bytes of the configured range of lines, starting at the position of the iterator
+     * when the reader was opened from a checkpoint or the iterator has already advanced, and finding the end of the
+     * range with the newline scanner only when there is a limit.
+     */
+    private LineRangeSpliterator newLineRangeSpliterator(FileChannel fileChannel) throws IOException {
+        long firstLine = readerConfig.getSkipLines() + 1;
+        long lastLine = getLastLine();
+
+        if (iterator.lineNumber == 0 && firstLine == 1 && lastLine == Long.MAX_VALUE) {
+            return new LineRangeSpliterator(readerConfig, fileChannel);
+        }
+
+        MappedLineReader mappedLineReader = newMappedLineReader(fileChannel, MappedLineReader.DEFAULT_WINDOW_SIZE);
+        long currentLineNumber;
+
+        if (iterator.lineNumber > 0) {
+            mappedLineReader.moveTo(iterator.position);
+            currentLineNumber = iterator.lineNumber + 1;
+
+            while (currentLineNumber < firstLine && mappedLineReader.skipLine()) {
+                currentLineNumber++;
+            }
+        } else {
+            currentLineNumber = skipToLine(mappedLineReader, firstLine);
+        }
+
+        long start = mappedLineReader.getPosition();
+        long startLine = currentLineNumber;
+        long end = fileChannel.size();
+
+        if (lastLine != Long.MAX_VALUE) {
+            while (currentLineNumber <= lastLine && mappedLineReader.skipLine()) {
+                currentLineNumber++;
+            }
+
+            end = mappedLineReader.getPosition();
+        }
+
+        return new LineRangeSpliterator(readerConfig, fileChannel, start, startLine, end);
+    }
+
+    /**
+     * Moves the reader to the line, jumping to the closest indexed line first.
+     *
+     * @return the number of the next line of the reader, which is smaller than the line when the file ends before it.
+     */
+    private long skipToLine(MappedLineReader mappedLineReader, long lineNumber) throws IOException {
+        LineIndex index = getLineIndex();
+        long currentLineNumber = 1;
+
+        if (index != null) {
+            currentLineNumber = index.getIndexedLineNumber(lineNumber);
+            mappedLineReader.moveTo(index.getIndexedOffset(lineNumber));
+        }
+
+        while (currentLineNumber < lineNumber && mappedLineReader.skipLine()) {
+            currentLineNumber++;
+        }
+
+        return currentLineNumber;
+    }
+
+    private synchronized LineIndex getLineIndex() throws IOException {
+        if (!lineIndexLoaded) {
+            lineIndex = LineIndex.find(path);
+            lineIndexLoaded = true;
+        }
+
+        return lineIndex;
+    }
+
+    private synchronized FileChannel getStreamChannel() throws IOException {
+        if (streamChannel == null) {
+            streamChannel = FileChannel.open(path, StandardOpenOption.READ);
+        }
+
+        return streamChannel;
     }
 
     final class JFileReaderIterator implements Iterator<LineValue> {
 
-        private int lineNumber;
+        private final LineValueParser lineValueParser = new LineValueParser(readerConfig);
+
+        private long lineNumber;
+        private long position;
+        private long nextPosition;
+        private long nextSkippedLines;
+        private boolean rangeSkipped;
         private String lastLineFromReader;
         private LineValue lastLineValue;
 
+        private void reset(long lineNumber) {
+            this.lineNumber = lineNumber;
+            this.position = lineReader.getPosition();
+            this.lastLineFromReader = null;
+            this.lastLineValue = null;
+        }
+
         @Override
         public boolean hasNext() {
+            if (lineNumber >= getLastLine()) {
+                return false;
+            }
+
             setCurrentLine();
-            return lastLineFromReader != null;
+            return lastLineFromReader != null && lineNumber + nextSkippedLines < getLastLine();
         }
 
         @Override
         public LineValue next() {
-            setCurrentLine();
-            String contentCurrentLine = getContentCurrentLine();
-            lastLineValue = getCurrentLineValue(contentCurrentLine);
-            return lastLineValue;
-        }
-
-        private LineValue getCurrentLineValue(String contentCurrentLine) {
-            Pattern pattern = readerConfig.getPattern();
-            String[] columns = pattern.split(contentCurrentLine);
-            SortedSet<ColumnValue> columnValues = new TreeSet<>();
-
-            for (int i = 0; i < columns.length; i++) {
-                int columnNumber = i + 1;
-                ColumnValue columnValue = newColumnValue(readerConfig, columnNumber, columns[i]);
-                columnValues.add(columnValue);
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more lines to read.");
             }
 
-            return newLineValue(++lineNumber, contentCurrentLine, columnValues);
+            return takeCurrentLine();
         }
 
-        private void setCurrentLine() {
-            if (lastLineFromReader == null) {
-                try {
-                    lastLineFromReader = bufferedReader.readLine();
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
+        /**
+         * Fills the batch with copies of the next lines, read straight from the line reader without the hasNext and
+         * next calls of each line.
+         *
+         * @return the number of lines filled, smaller than the batch only when there are no more lines.
+         */
+        int fill(LineValue[] batch) {
+            long lastLine = getLastLine();
+            int count = 0;
+
+            while (count < batch.length && lineNumber < lastLine) {
+                setCurrentLine();
+
+                if (lastLineFromReader == null || lineNumber + nextSkippedLines >= lastLine) {
+                    break;
                 }
+
+                batch[count++] = takeCurrentLine().copy();
             }
+
+            return count;
         }
 
-        private String getContentCurrentLine() {
-            String currentLine = lastLineFromReader;
+        private LineValue takeCurrentLine() {
+            String contentCurrentLine = lastLineFromReader;
             lastLineFromReader = null;
+            lineNumber += nextSkippedLines;
+            lastLineValue = parseCurrentLine(contentCurrentLine);
+            position = nextPosition;
+            return lastLineValue;
+        }
 
-            if (currentLine == null) {
-                throw new NoSuchElementException("No more lines to read.");
+        private LineValue parseCurrentLine(String contentCurrentLine) {
+            LineTokens lineTokens = lineReader.getLineTokens();
+            long offset = lineReader.getLineOffset();
+
+            if (lineTokens == null) {
+                return lineValueParser.parse(++lineNumber, offset, contentCurrentLine);
             }
 
-            return currentLine;
+            return lineValueParser.parse(++lineNumber, offset, contentCurrentLine, lineTokens);
+        }
+
+        private void setCurrentLine() {
+            try {
+                if (!rangeSkipped) {
+                    rangeSkipped = true;
+                    skipToFirstLine();
+                }
+
+                if (lastLineFromReader == null) {
+                    lastLineFromReader = lineReader.readLine();
+                    nextPosition = lineReader.getPosition();
+                    nextSkippedLines = lineReader.getSkippedLines();
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
         }
 
     }
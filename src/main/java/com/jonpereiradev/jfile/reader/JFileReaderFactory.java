@@ -24,13 +24,22 @@
 package com.jonpereiradev.jfile.reader;
 
 
+import com.jonpereiradev.jfile.reader.tokenizer.FixedWidthLayout;
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokenizer;
+import com.jonpereiradev.jfile.reader.tokenizer.MultiRecordLayout;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -49,6 +58,47 @@ public final class JFileReaderFactory {
         throw new UnsupportedOperationException("Instantiation not supported");
     }
 
+    /**
+     * Creates a {@link JFileReader} object that continues reading the file after a checkpoint.
+     *
+     * @param file the file instance to read.
+     * @param readerConfig the configuration for reading the file.
+     * @param checkpoint the checkpoint created by {@link JFileReader#checkpoint()}.
+     *
+     * @return a {@link JFileReader} object positioned at the line after the checkpoint.
+     *
+     * @throws IOException if a problem occurs when opening the file.
+     */
+    public static JFileReader newJFileReader(
+        File file,
+        JFileReaderConfig readerConfig,
+        JFileCheckpoint checkpoint) throws IOException {
+        return newJFileReader(file.toPath(), readerConfig, checkpoint);
+    }
+
+    /**
+     * Creates a {@link JFileReader} object that continues reading the file after a checkpoint. The file is read from a
+     * {@link FileChannel} mapping starting at the byte offset of the checkpoint, without reading the lines before it,
+     * and the line numbers continue from the line number of the checkpoint.
+     *
+     * @param path the path of the file to read.
+     * @param readerConfig the configuration for reading the file.
+     * @param checkpoint the checkpoint created by {@link JFileReader#checkpoint()}.
+     *
+     * @return a {@link JFileReader} object positioned at the line after the checkpoint.
+     *
+     * @throws IOException if a problem occurs when opening the path.
+     */
+    public static JFileReader newJFileReader(
+        Path path,
+        JFileReaderConfig readerConfig,
+        JFileCheckpoint checkpoint) throws IOException {
+        Objects.requireNonNull(path, "Path is required");
+        Objects.requireNonNull(readerConfig, "JFileReaderConfig is required");
+        Objects.requireNonNull(checkpoint, "JFileCheckpoint is required");
+        return JFileReaderEngine.newInstance(path, readerConfig, checkpoint);
+    }
+
     /**
      * Creates a {@link JFileReader} object configured with file and regex split pattern.
      *
@@ -88,21 +138,139 @@ public final class JFileReaderFactory {
      * @throws IOException if a problem occurs when creating {@link InputStream} for the path.
      */
     public static JFileReader newUtf8JFileReader(Path path, String regex) throws IOException {
-        return newUtf8JFileReader(Files.newInputStream(path), regex);
+        return newJFileReader(path, newUtf8ReaderConfig(regex));
     }
 
     /**
-     * Creates a {@link JFileReader} object configured with file and configuration.
+     * Creates a {@link JFileReader} object configured with file and configuration. When the configuration is
+     * {@link JFileReaderConfig#isMemoryMapped() memory-mapped} the file is read from a {@link FileChannel} mapping.
      *
-     * @param path the path used to create the {@link InputStream}.
+     * @param path the path used to create the {@link InputStream} or the {@link FileChannel}.
      * @param readerConfig the configuration for reading the file.
      *
      * @return a {@link JFileReader} object configured for file reading.
      *
-     * @throws IOException if a problem occurs when creating {@link InputStream} for the path.
+     * @throws IOException if a problem occurs when opening the path.
      */
     public static JFileReader newJFileReader(Path path, JFileReaderConfig readerConfig) throws IOException {
-        return newJFileReader(Files.newInputStream(path), readerConfig);
+        Objects.requireNonNull(path, "Path is required");
+        Objects.requireNonNull(readerConfig, "JFileReaderConfig is required");
+        return JFileReaderEngine.newInstance(path, readerConfig);
+    }
+
+    /**
+     * Creates a {@link JFileReader} object for a compressed file.
+     *
+     * @param file the gzip or zip file.
+     * @param readerConfig the configuration for reading the file.
+     *
+     * @return a {@link JFileReader} object for the content of the compressed file.
+     *
+     * @throws IOException if the file isn't a gzip or zip file or can't be opened.
+     * @see #newCompressedJFileReader(Path, JFileReaderConfig)
+     */
+    public static JFileReader newCompressedJFileReader(File file, JFileReaderConfig readerConfig) throws IOException {
+        return newCompressedJFileReader(file.toPath(), readerConfig);
+    }
+
+    /**
+     * Creates a {@link JFileReader} object for a compressed file, detecting the format by its magic number. The
+     * members of a gzip file, like the blocks written by bgzip, and the entries of a zip file are inflated by
+     * {@link JFileReaderConfig#getFileParallelism()} threads, and their lines are returned in the order of the file.
+     *
+     * @param path the gzip or zip file.
+     * @param readerConfig the configuration for reading the file.
+     *
+     * @return a {@link JFileReader} object for the content of the compressed file.
+     *
+     * @throws IOException if the file isn't a gzip or zip file or can't be opened.
+     */
+    public static JFileReader newCompressedJFileReader(Path path, JFileReaderConfig readerConfig) throws IOException {
+        Objects.requireNonNull(path, "Path is required");
+        Objects.requireNonNull(readerConfig, "JFileReaderConfig is required");
+
+        if (readerConfig.isFollow()) {
+            throw new IllegalArgumentException("A compressed file can't be followed");
+        }
+
+        byte[] magic = new byte[4];
+        int read;
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            read = inputStream.read(magic);
+        }
+
+        InputStream inputStream;
+
+        if (read >= 2 && (magic[0] & 0xFF) == 0x1F && (magic[1] & 0xFF) == 0x8B) {
+            inputStream = GzipInflatingInputStream.newInstance(path, readerConfig.getFileParallelism());
+        } else if (read == 4 && magic[0] == 'P' && magic[1] == 'K' && magic[2] == 3 && magic[3] == 4) {
+            inputStream = ZipInflatingInputStream.newInstance(path, readerConfig.getFileParallelism());
+        } else {
+            throw new IOException("Unsupported compression format of " + path);
+        }
+
+        try {
+            return JFileReaderEngine.newInstance(inputStream, readerConfig);
+        } catch (IOException | RuntimeException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a {@link JFileReader} object that reads many files at the same time, merging their lines in a single
+     * iteration. The files are read by {@link JFileReaderConfig#getFileParallelism()} threads, each one with its own
+     * reader, and the lines are returned in the order of the list unless {@link JFileReaderConfig#isOrderedFiles()} is
+     * false. Each line is a {@link com.jonpereiradev.jfile.reader.file.SourceLineValue} with the path of its file and
+     * the line number inside that file. The options of the configuration, like the line range, apply to each file. The
+     * reader must be closed to stop its threads when the lines aren't read until the end.
+     *
+     * @param paths the paths of the files to read.
+     * @param readerConfig the configuration for reading the files.
+     *
+     * @return a {@link JFileReader} object for all the files.
+     *
+     * @throws IOException if a path isn't a readable regular file.
+     */
+    public static JFileReader newJFileReader(List<Path> paths, JFileReaderConfig readerConfig) throws IOException {
+        Objects.requireNonNull(paths, "Paths are required");
+        Objects.requireNonNull(readerConfig, "JFileReaderConfig is required");
+        return MultiFileReaderEngine.newInstance(paths, readerConfig);
+    }
+
+    /**
+     * Creates a {@link JFileReader} object that reads the files of a directory matching a glob, like
+     * {@code part-*.csv}, sorted by name.
+     *
+     * @param directory the directory of the files.
+     * @param glob the glob pattern of the file names, as described by
+     * {@link java.nio.file.FileSystem#getPathMatcher(String)}.
+     * @param readerConfig the configuration for reading the files.
+     *
+     * @return a {@link JFileReader} object for all the files matching the glob.
+     *
+     * @throws IOException if a problem occurs when listing the directory.
+     * @see #newJFileReader(List, JFileReaderConfig)
+     */
+    public static JFileReader newJFileReader(
+        Path directory,
+        String glob,
+        JFileReaderConfig readerConfig) throws IOException {
+        Objects.requireNonNull(directory, "Directory is required");
+        Objects.requireNonNull(glob, "Glob is required");
+        List<Path> paths = new ArrayList<>();
+
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, glob)) {
+            for (Path path : directoryStream) {
+                if (Files.isRegularFile(path)) {
+                    paths.add(path);
+                }
+            }
+        }
+
+        Collections.sort(paths);
+        return newJFileReader(paths, readerConfig);
     }
 
     /**
@@ -160,4 +328,55 @@ public final class JFileReaderFactory {
         return new JFileReaderConfigImpl(Pattern.compile(regex), charset);
     }
 
+    /**
+     * Creates a {@link JFileReaderConfig} object for fixed-width lines configured with UTF-8 encoding.
+     *
+     * @param layout the offset and length of each column.
+     *
+     * @return a {@link JFileReaderConfig} object configured with UTF-8 encoding.
+     */
+    public static JFileReaderConfig newUtf8ReaderConfig(FixedWidthLayout layout) {
+        return newReaderConfig(layout, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a {@link JFileReaderConfig} object for fixed-width lines, slicing the columns at the offsets of the
+     * layout instead of searching for a delimiter.
+     *
+     * @param layout the offset and length of each column.
+     * @param charset the encode of the file content.
+     *
+     * @return a {@link JFileReaderConfig} object.
+     */
+    public static JFileReaderConfig newReaderConfig(FixedWidthLayout layout, Charset charset) {
+        Objects.requireNonNull(layout, "FixedWidthLayout is required");
+        return new JFileReaderConfigImpl(LineTokenizer.newFixedWidthTokenizer(layout), charset);
+    }
+
+    /**
+     * Creates a {@link JFileReaderConfig} object for positional files with many record types configured with UTF-8
+     * encoding.
+     *
+     * @param layout the layout of each record type.
+     *
+     * @return a {@link JFileReaderConfig} object configured with UTF-8 encoding.
+     */
+    public static JFileReaderConfig newUtf8ReaderConfig(MultiRecordLayout layout) {
+        return newReaderConfig(layout, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a {@link JFileReaderConfig} object for positional files with many record types, like CNAB 240 and CNAB
+     * 400 files, slicing each line with the layout of its record type.
+     *
+     * @param layout the layout of each record type.
+     * @param charset the encode of the file content.
+     *
+     * @return a {@link JFileReaderConfig} object.
+     */
+    public static JFileReaderConfig newReaderConfig(MultiRecordLayout layout, Charset charset) {
+        Objects.requireNonNull(layout, "MultiRecordLayout is required");
+        return new JFileReaderConfigImpl(LineTokenizer.newMultiRecordTokenizer(layout), charset);
+    }
+
 }
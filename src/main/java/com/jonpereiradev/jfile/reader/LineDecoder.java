@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * <p>Builds the line strings from the bytes of the file.</p>
+ *
+ * <p>When the charset decodes every ASCII byte to the same character, like UTF-8, US-ASCII and most single byte
+ * charsets, a line without bytes above {@code 0x7F} is built by widening each byte to a char, without a
+ * {@link java.nio.charset.CharsetDecoder}. A line with a high byte falls back to the charset decoding. ISO-8859-1
+ * maps every byte to the same character, so its lines are always widened.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class LineDecoder {
+
+    private static final int ASCII_SIZE = 128;
+
+    private final Charset charset;
+    private final boolean latin1;
+    private final boolean asciiCompatible;
+
+    LineDecoder(Charset charset) {
+        this.charset = charset;
+        this.latin1 = StandardCharsets.ISO_8859_1.equals(charset);
+        this.asciiCompatible = latin1 || isAsciiCompatible(charset);
+    }
+
+    /**
+     * Checks if the charset decodes each byte below {@code 0x80} to the character with the same value.
+     *
+     * @param charset the charset of the file content.
+     *
+     * @return true if ASCII bytes can be widened to chars.
+     */
+    static boolean isAsciiCompatible(Charset charset) {
+        byte[] bytes = new byte[ASCII_SIZE];
+
+        for (int i = 0; i < ASCII_SIZE; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        String decoded = new String(bytes, charset);
+
+        if (decoded.length() != ASCII_SIZE) {
+            return false;
+        }
+
+        for (int i = 0; i < ASCII_SIZE; i++) {
+            if (decoded.charAt(i) != i) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Builds the string of a line, looking for high bytes to choose between widening and decoding.
+     */
+    String decode(byte[] bytes, int offset, int length) {
+        if (!asciiCompatible) {
+            return new String(bytes, offset, length, charset);
+        }
+
+        return decode(bytes, offset, length, !latin1 && hasHighByte(bytes, offset, length));
+    }
+
+    /**
+     * Builds the string of a line whose bytes were already checked by the caller while scanning for the terminator.
+     */
+    String decode(byte[] bytes, int offset, int length, boolean highByte) {
+        if (latin1 || asciiCompatible && !highByte) {
+            return widen(bytes, offset, length);
+        }
+
+        return new String(bytes, offset, length, charset);
+    }
+
+    private static boolean hasHighByte(byte[] bytes, int offset, int length) {
+        int bits = 0;
+
+        for (int i = offset, end = offset + length; i < end; i++) {
+            bits |= bytes[i];
+        }
+
+        return bits < 0;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static String widen(byte[] bytes, int offset, int length) {
+        // copies each byte to a char with the high byte zero, which is ISO-8859-1 and ASCII without a decoder
+        return new String(bytes, 0, offset, length);
+    }
+
+}
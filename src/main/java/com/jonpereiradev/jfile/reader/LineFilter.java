@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+
+/**
+ * <p>Predicate over the raw content of a line, evaluated by the reader before the line is split into columns. A
+ * rejected line is never tokenized nor converted, but it still counts for the line numbers.</p>
+ *
+ * <p>The literal matchers compare the content with {@link String#startsWith(String)} and
+ * {@link String#indexOf(String)}, which the JVM executes as intrinsics, instead of a regex.</p>
+ *
+ * @author jonpereiradev
+ * @see JFileReaderConfig#lineFilter(Predicate)
+ * @since 0.9.0
+ */
+@FunctionalInterface
+public interface LineFilter extends Predicate<String> {
+
+    /**
+     * Creates a filter that accepts the lines starting with a literal text, like the record type of a positional file.
+     *
+     * @param prefix the literal text at the beginning of the line.
+     *
+     * @return the filter of the lines starting with the prefix.
+     */
+    static LineFilter startsWith(String prefix) {
+        Objects.requireNonNull(prefix, "Prefix is required");
+
+        if (prefix.length() == 1) {
+            char character = prefix.charAt(0);
+            return content -> !content.isEmpty() && content.charAt(0) == character;
+        }
+
+        return content -> content.startsWith(prefix);
+    }
+
+    /**
+     * Creates a filter that accepts the lines containing a literal text anywhere, like a status between delimiters.
+     *
+     * @param literal the literal text inside the line.
+     *
+     * @return the filter of the lines containing the literal.
+     */
+    static LineFilter contains(String literal) {
+        Objects.requireNonNull(literal, "Literal is required");
+
+        if (literal.length() == 1) {
+            char character = literal.charAt(0);
+            return content -> content.indexOf(character) != -1;
+        }
+
+        return content -> content.contains(literal);
+    }
+
+}
@@ -0,0 +1,310 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+
+/**
+ * <p>Sidecar index with the byte offset of every {@link #getInterval() interval} lines of a file, used by
+ * {@link JFileReader#seekToLine(long)} and {@link JFileReader#readLine(long)} to jump close to a line instead of
+ * scanning the file from the beginning.</p>
+ *
+ * <p>The index is written next to the file with the {@value #SIDECAR_EXTENSION} extension, with the offsets encoded as
+ * variable-length deltas. It keeps the size and the modification time of the file, and the readers ignore an index
+ * that doesn't match the file anymore.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+public final class LineIndex {
+
+    /**
+     * The number of lines between two offsets of the index created by {@link #build(Path, Charset)}.
+     */
+    public static final int DEFAULT_INTERVAL = 1024;
+
+    /**
+     * The extension appended to the name of the file to name the index.
+     */
+    public static final String SIDECAR_EXTENSION = ".idx";
+
+    private static final int MAGIC = 0x4A464958;
+    private static final byte VERSION = 1;
+
+    private final int interval;
+    private final long fileSize;
+    private final long lastModified;
+    private final long lineCount;
+    private final long[] offsets;
+
+    private LineIndex(int interval, long fileSize, long lastModified, long lineCount, long[] offsets) {
+        this.interval = interval;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.lineCount = lineCount;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Scans the file once and writes the sidecar index with the offset of every {@value #DEFAULT_INTERVAL} lines.
+     *
+     * @param path the file to index.
+     * @param charset the charset of the file content.
+     *
+     * @return the index written.
+     *
+     * @throws IOException if a problem occurs reading the file or writing the index.
+     */
+    public static LineIndex build(Path path, Charset charset) throws IOException {
+        return build(path, charset, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Scans the file once and writes the sidecar index with the offset of every interval lines. A smaller interval
+     * makes the seek faster and the index bigger.
+     *
+     * @param path the file to index.
+     * @param charset the charset of the file content, which must encode line terminators as single bytes.
+     * @param interval the number of lines between two offsets of the index.
+     *
+     * @return the index written.
+     *
+     * @throws IOException if a problem occurs reading the file or writing the index.
+     */
+    public static LineIndex build(Path path, Charset charset, int interval) throws IOException {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval must be greater than zero");
+        }
+
+        if (!MappedLineReader.isSupported(charset)) {
+            throw new IllegalArgumentException("Charset " + charset + " doesn't encode line terminators as bytes");
+        }
+
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        long[] offsets = new long[16];
+        int size = 0;
+        long lineCount = 0;
+        long fileSize;
+
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            fileSize = fileChannel.size();
+            MappedLineReader lineReader = new MappedLineReader(fileChannel, charset);
+            long position = lineReader.getPosition();
+
+            while (lineReader.skipLine()) {
+                if (lineCount++ % interval == 0) {
+                    if (size == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, size * 2);
+                    }
+
+                    offsets[size++] = position;
+                }
+
+                position = lineReader.getPosition();
+            }
+        }
+
+        LineIndex lineIndex = new LineIndex(interval, fileSize, lastModified, lineCount, Arrays.copyOf(offsets, size));
+        lineIndex.write(getSidecarPath(path));
+        return lineIndex;
+    }
+
+    /**
+     * @param path the indexed file.
+     *
+     * @return the path of the sidecar index of the file.
+     */
+    public static Path getSidecarPath(Path path) {
+        return path.resolveSibling(path.getFileName() + SIDECAR_EXTENSION);
+    }
+
+    /**
+     * Reads the sidecar index of the file.
+     *
+     * @param path the indexed file.
+     *
+     * @return the index, or null when the file has no index, or the index doesn't match the file or can't be decoded,
+     *     so the lines are scanned from the beginning of the file.
+     *
+     * @throws IOException if a problem occurs reading the attributes of the file.
+     */
+    static LineIndex find(Path path) throws IOException {
+        Path sidecarPath = getSidecarPath(path);
+
+        if (!Files.isRegularFile(sidecarPath)) {
+            return null;
+        }
+
+        LineIndex lineIndex;
+
+        try {
+            lineIndex = read(sidecarPath);
+        } catch (IOException e) {
+            // a truncated or corrupt index is discarded like a stale one
+            return null;
+        }
+
+        if (lineIndex.fileSize != Files.size(path)
+            || lineIndex.lastModified != Files.getLastModifiedTime(path).toMillis()) {
+            return null;
+        }
+
+        return lineIndex;
+    }
+
+    /**
+     * @return the number of lines between two offsets of the index.
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * @return the number of lines of the file when it was indexed.
+     */
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * @param lineNumber the number of the line, starting at 1.
+     *
+     * @return the number of the closest indexed line at or before the line.
+     */
+    long getIndexedLineNumber(long lineNumber) {
+        return getEntry(lineNumber) * (long) interval + 1;
+    }
+
+    /**
+     * @param lineNumber the number of the line, starting at 1.
+     *
+     * @return the byte offset of the closest indexed line at or before the line.
+     */
+    long getIndexedOffset(long lineNumber) {
+        return offsets.length == 0 ? 0 : offsets[getEntry(lineNumber)];
+    }
+
+    private int getEntry(long lineNumber) {
+        if (offsets.length == 0) {
+            return 0;
+        }
+
+        return (int) Math.min((lineNumber - 1) / interval, offsets.length - 1);
+    }
+
+    private void write(Path sidecarPath) throws IOException {
+        BufferedOutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(sidecarPath));
+
+        try (DataOutputStream output = new DataOutputStream(outputStream)) {
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.writeInt(interval);
+            output.writeLong(fileSize);
+            output.writeLong(lastModified);
+            output.writeLong(lineCount);
+            output.writeInt(offsets.length);
+
+            long previous = 0;
+
+            for (long offset : offsets) {
+                writeVarLong(output, offset - previous);
+                previous = offset;
+            }
+        }
+    }
+
+    private static LineIndex read(Path sidecarPath) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(sidecarPath)))) {
+            if (input.readInt() != MAGIC || input.readByte() != VERSION) {
+                throw new IOException("File " + sidecarPath + " is not a line index");
+            }
+
+            int interval = input.readInt();
+            long fileSize = input.readLong();
+            long lastModified = input.readLong();
+            long lineCount = input.readLong();
+            int size = input.readInt();
+
+            if (interval < 1 || lineCount < 0 || size < 0 || size > lineCount / interval + 1) {
+                throw new IOException("File " + sidecarPath + " has an invalid line index header");
+            }
+
+            long[] offsets = new long[size];
+            long previous = 0;
+
+            for (int i = 0; i < offsets.length; i++) {
+                long delta = readVarLong(input);
+
+                if (delta < 0 || delta > fileSize - previous) {
+                    throw new IOException("File " + sidecarPath + " has an offset out of the indexed file");
+                }
+
+                previous += delta;
+                offsets[i] = previous;
+            }
+
+            return new LineIndex(interval, fileSize, lastModified, lineCount, offsets);
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        output.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream input) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte current;
+
+        do {
+            if (shift > 63) {
+                throw new IOException("Line index offset is longer than 64 bits");
+            }
+
+            current = input.readByte();
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+
+        return value;
+    }
+
+}
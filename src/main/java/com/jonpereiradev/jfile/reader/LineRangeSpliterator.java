@@ -0,0 +1,313 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.file.LineValue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+
+/**
+ * <p>Splittable {@link Spliterator} over the lines of a seekable file.</p>
+ *
+ * <p>The file is partitioned lazily, on the first split, in byte ranges aligned on the beginning of the lines. The
+ * lines of each range are counted in parallel, and the counts are accumulated to give every range the exact number of
+ * its first line. After that, each range is read and tokenized independently by the thread that received it,
+ * reporting exact sizes and line numbers. A sequential traversal without splits never counts the lines: it isn't
+ * {@link #SIZED} and estimates its size from the length of the lines sampled at its start. With a line filter the
+ * sizes are only estimates, since the rejected lines are counted too.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class LineRangeSpliterator implements Spliterator<LineValue> {
+
+    private static final int CHARACTERISTICS = ORDERED | NONNULL;
+    private static final long MIN_RANGE_SIZE = 1024 * 1024;
+    private static final long SAMPLE_SIZE = 64 * 1024;
+    private static final int RANGES_PER_THREAD = 8;
+
+    private final JFileReaderConfig readerConfig;
+    private final FileChannel fileChannel;
+    private final long minRangeSize;
+    private final LineValueParser lineValueParser;
+    private final Predicate<String> lineFilter;
+
+    private long[] rangeOffsets;
+    private long[] rangeLineNumbers;
+    private int fromRange;
+    private int toRange;
+
+    private long start;
+    private long end;
+    private long lineNumber;
+    private long remaining = -1;
+    private double averageLineLength;
+    private MappedLineReader lineReader;
+
+    LineRangeSpliterator(JFileReaderConfig readerConfig, FileChannel fileChannel) throws IOException {
+        this(readerConfig, fileChannel, MIN_RANGE_SIZE);
+    }
+
+    LineRangeSpliterator(JFileReaderConfig readerConfig, FileChannel fileChannel, long minRangeSize)
+        throws IOException {
+        this(readerConfig, fileChannel, minRangeSize, 0, 1, fileChannel.size());
+    }
+
+    /**
+     * Creates a spliterator restricted to the bytes between start (inclusive) and end (exclusive), which must be the
+     * beginning of lines or the end of the file.
+     */
+    LineRangeSpliterator(
+        JFileReaderConfig readerConfig,
+        FileChannel fileChannel,
+        long start,
+        long firstLine,
+        long end) {
+        this(readerConfig, fileChannel, MIN_RANGE_SIZE, start, firstLine, end);
+    }
+
+    private LineRangeSpliterator(
+        JFileReaderConfig readerConfig,
+        FileChannel fileChannel,
+        long minRangeSize,
+        long start,
+        long firstLine,
+        long end) {
+        this.readerConfig = readerConfig;
+        this.fileChannel = fileChannel;
+        this.minRangeSize = minRangeSize;
+        this.lineValueParser = new LineValueParser(readerConfig);
+        this.lineFilter = readerConfig.getLineFilter();
+        this.start = start;
+        this.end = end;
+        this.lineNumber = firstLine - 1;
+    }
+
+    private LineRangeSpliterator(LineRangeSpliterator parent, int fromRange, int toRange) {
+        this.readerConfig = parent.readerConfig;
+        this.fileChannel = parent.fileChannel;
+        this.minRangeSize = parent.minRangeSize;
+        this.lineValueParser = new LineValueParser(readerConfig);
+        this.lineFilter = parent.lineFilter;
+        this.rangeOffsets = parent.rangeOffsets;
+        this.rangeLineNumbers = parent.rangeLineNumbers;
+        this.fromRange = fromRange;
+        this.toRange = toRange;
+        this.start = rangeOffsets[fromRange];
+        this.end = rangeOffsets[toRange];
+        this.lineNumber = rangeLineNumbers[fromRange] - 1;
+        this.remaining = rangeLineNumbers[toRange] - rangeLineNumbers[fromRange];
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super LineValue> action) {
+        String content;
+
+        while ((content = readLine()) != null) {
+            lineNumber++;
+
+            if (lineFilter == null || lineFilter.test(content)) {
+                action.accept(lineValueParser.parse(lineNumber, lineReader.getLineOffset(), content));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super LineValue> action) {
+        String content;
+
+        while ((content = readLine()) != null) {
+            lineNumber++;
+
+            if (lineFilter == null || lineFilter.test(content)) {
+                action.accept(lineValueParser.parse(lineNumber, lineReader.getLineOffset(), content));
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<LineValue> trySplit() {
+        if (lineReader != null) {
+            return null;
+        }
+
+        if (rangeOffsets == null) {
+            partition();
+        }
+
+        if (toRange - fromRange < 2) {
+            return null;
+        }
+
+        int middleRange = (fromRange + toRange) >>> 1;
+        LineRangeSpliterator prefix = new LineRangeSpliterator(this, fromRange, middleRange);
+
+        fromRange = middleRange;
+        start = rangeOffsets[middleRange];
+        lineNumber = rangeLineNumbers[middleRange] - 1;
+        remaining = rangeLineNumbers[toRange] - rangeLineNumbers[middleRange];
+
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (remaining != -1) {
+            return remaining;
+        }
+
+        long position = lineReader == null ? start : lineReader.getPosition();
+        return (long) Math.ceil((end - position) / getAverageLineLength());
+    }
+
+    @Override
+    public int characteristics() {
+        // a reusable line value is refilled for every line, so the elements are only immutable without it
+        int characteristics = readerConfig.isReusableLineValue() ? CHARACTERISTICS : CHARACTERISTICS | IMMUTABLE;
+
+        // the size is only known after a split counted the lines, and it counts the lines that the filter may reject
+        return rangeOffsets != null && lineFilter == null ? characteristics | SIZED | SUBSIZED : characteristics;
+    }
+
+    /**
+     * @return true when the lines of the file were counted to split it.
+     */
+    boolean isPartitioned() {
+        return rangeOffsets != null;
+    }
+
+    private String readLine() {
+        try {
+            if (lineReader == null) {
+                lineReader = newLineReader(start, end);
+            }
+
+            String content = lineReader.readLine();
+
+            if (content != null && remaining > 0) {
+                remaining--;
+            }
+
+            return content;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void partition() {
+        int parallelism = Runtime.getRuntime().availableProcessors() * RANGES_PER_THREAD;
+        int numberOfRanges = (int) Math.max(1, Math.min(parallelism, (end - start) / minRangeSize));
+        long[] offsets = new long[numberOfRanges + 1];
+
+        offsets[0] = start;
+        offsets[numberOfRanges] = end;
+
+        for (int i = 1; i < numberOfRanges; i++) {
+            long approximate = start + (end - start) * i / numberOfRanges;
+            offsets[i] = Math.min(end, Math.max(offsets[i - 1], alignToLineStart(approximate)));
+        }
+
+        long[] lineCounts = new long[numberOfRanges];
+        IntStream.range(0, numberOfRanges).parallel().forEach(i -> {
+            lineCounts[i] = countLines(offsets[i], offsets[i + 1]);
+        });
+
+        long[] lineNumbers = new long[numberOfRanges + 1];
+        lineNumbers[0] = lineNumber + 1;
+
+        for (int i = 0; i < numberOfRanges; i++) {
+            lineNumbers[i + 1] = lineNumbers[i] + lineCounts[i];
+        }
+
+        rangeOffsets = offsets;
+        rangeLineNumbers = lineNumbers;
+        fromRange = 0;
+        toRange = numberOfRanges;
+        remaining = lineNumbers[numberOfRanges] - lineNumbers[0];
+    }
+
+    private double getAverageLineLength() {
+        if (averageLineLength == 0) {
+            try {
+                MappedLineReader reader = newLineReader(start, Math.min(end, start + SAMPLE_SIZE));
+                long count = 0;
+
+                while (reader.skipLine()) {
+                    count++;
+                }
+
+                averageLineLength = count == 0 ? 1 : Math.max(1, (double) (reader.getPosition() - start) / count);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return averageLineLength;
+    }
+
+    private long alignToLineStart(long position) {
+        if (position <= start) {
+            return start;
+        }
+
+        try {
+            MappedLineReader reader = newLineReader(position - 1, end);
+            reader.skipLine();
+            return reader.getPosition();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long countLines(long from, long to) {
+        try {
+            MappedLineReader reader = newLineReader(from, to);
+            long count = 0;
+
+            while (reader.skipLine()) {
+                count++;
+            }
+
+            return count;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MappedLineReader newLineReader(long from, long to) {
+        int windowSize = MappedLineReader.DEFAULT_WINDOW_SIZE;
+        return new MappedLineReader(fileChannel, readerConfig.getCharset(), windowSize, from, to);
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokens;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+
+/**
+ * Source of the raw lines consumed by the {@link JFileReaderEngine}.
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+interface LineReader extends Closeable {
+
+    /**
+     * Reads the next line without the line terminator.
+     *
+     * @return the content of the line or null when the end of the source was reached.
+     *
+     * @throws IOException if a problem occurs reading the source.
+     */
+    String readLine() throws IOException;
+
+    /**
+     * @return the tokens of the last line read when the reader tokenizes the lines itself, or null otherwise.
+     */
+    default LineTokens getLineTokens() {
+        return null;
+    }
+
+    /**
+     * @return the byte position of the source after the last line read, or -1 when the reader doesn't track it.
+     */
+    default long getPosition() {
+        return -1;
+    }
+
+    /**
+     * @return the byte position of the source where the last line read starts, or -1 when the reader doesn't track it.
+     */
+    default long getLineOffset() {
+        return -1;
+    }
+
+    /**
+     * @return the number of lines rejected by the line filter right before the last line read, which still count for
+     * the line numbers.
+     */
+    default long getSkippedLines() {
+        return 0;
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.file.LineValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.ToIntFunction;
+
+
+/**
+ * Iterates over the lines in batches. Each batch is a new list, so the batches can be handed to other threads.
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class LineValueBatchIterator implements Iterator<List<LineValue>> {
+
+    private final Iterator<LineValue> iterator;
+    private final ToIntFunction<LineValue[]> batchFiller;
+    private final int batchSize;
+
+    LineValueBatchIterator(Iterator<LineValue> iterator, int batchSize) {
+        this(iterator, batch -> fill(iterator, batch), batchSize);
+    }
+
+    /**
+     * Creates the iterator with a filler that reads the lines of a batch at once, returning the number of lines read.
+     */
+    LineValueBatchIterator(Iterator<LineValue> iterator, ToIntFunction<LineValue[]> batchFiller, int batchSize) {
+        this.iterator = iterator;
+        this.batchFiller = batchFiller;
+        this.batchSize = BatchConsumer.validateBatchSize(batchSize);
+    }
+
+    private static int fill(Iterator<LineValue> iterator, LineValue[] batch) {
+        int count = 0;
+
+        while (count < batch.length && iterator.hasNext()) {
+            batch[count++] = iterator.next().copy();
+        }
+
+        return count;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public List<LineValue> next() {
+        if (!iterator.hasNext()) {
+            throw new NoSuchElementException("No more lines to read.");
+        }
+
+        LineValue[] batch = new LineValue[batchSize];
+        int count = batchFiller.applyAsInt(batch);
+
+        return Collections.unmodifiableList(Arrays.asList(count == batchSize ? batch : Arrays.copyOf(batch, count)));
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.file.LineValue;
+import com.jonpereiradev.jfile.reader.file.ReusableLineValue;
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokens;
+
+import static com.jonpereiradev.jfile.reader.file.LineValue.newLineValue;
+import static com.jonpereiradev.jfile.reader.file.LineValue.newReusableLineValue;
+
+
+/**
+ * Tokenizes the lines read by a single consumer, like an iterator or a spliterator, reusing the tokens between lines.
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class LineValueParser {
+
+    private final JFileReaderConfig readerConfig;
+    private final LineTokens lineTokens;
+    private final ReusableLineValue reusableLineValue;
+
+    LineValueParser(JFileReaderConfig readerConfig) {
+        this.readerConfig = readerConfig;
+        this.lineTokens = new LineTokens();
+        this.reusableLineValue = readerConfig.isReusableLineValue() ? newReusableLineValue(readerConfig) : null;
+    }
+
+    LineValue parse(long lineNumber, long offset, String content) {
+        readerConfig.getLineTokenizer().tokenize(content, lineTokens);
+        return parse(lineNumber, offset, content, lineTokens);
+    }
+
+    LineValue parse(long lineNumber, long offset, String content, LineTokens contentTokens) {
+        if (reusableLineValue != null) {
+            reusableLineValue.refill(lineNumber, offset, content, contentTokens);
+            return reusableLineValue;
+        }
+
+        return newLineValue(readerConfig, lineNumber, offset, content, contentTokens);
+    }
+
+}
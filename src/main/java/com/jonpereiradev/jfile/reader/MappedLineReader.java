@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+
+/**
+ * <p>Reads the lines of a file straight from a memory-mapped region of the {@link FileChannel}.</p>
+ *
+ * <p>The file is mapped window by window, so files bigger than the 2 GB limit of a single mapping are supported. A
+ * line that crosses the end of a window causes the next window to be mapped starting at the beginning of that line.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class MappedLineReader implements LineReader {
+
+    static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final FileChannel fileChannel;
+    private final LineDecoder lineDecoder;
+    private final int windowSize;
+    private final long end;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+    private int lineOffset;
+    private int lineLength;
+    private boolean highByte;
+    private byte[] lineBuffer = new byte[1024];
+
+    MappedLineReader(FileChannel fileChannel, Charset charset) throws IOException {
+        this(fileChannel, charset, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedLineReader(FileChannel fileChannel, Charset charset, int windowSize) throws IOException {
+        this(fileChannel, charset, windowSize, 0, fileChannel.size());
+    }
+
+    /**
+     * Creates a reader restricted to the bytes between start (inclusive) and end (exclusive). The start must be the
+     * beginning of a line, and the end must be the beginning of a line or the end of the file.
+     */
+    MappedLineReader(FileChannel fileChannel, Charset charset, int windowSize, long start, long end) {
+        this.fileChannel = fileChannel;
+        this.lineDecoder = new LineDecoder(charset);
+        this.windowSize = windowSize;
+        this.position = start;
+        this.end = end;
+    }
+
+    /**
+     * Checks if the line terminators of the charset are encoded as single ASCII bytes, which is required to scan the
+     * mapped bytes without decoding them first.
+     *
+     * @param charset the charset of the file content.
+     *
+     * @return true if the charset can be read by this reader.
+     */
+    static boolean isSupported(Charset charset) {
+        return Arrays.equals("\r\n".getBytes(charset), new byte[]{CR, LF});
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        return scanLine() ? decode(lineOffset, lineLength) : null;
+    }
+
+    /**
+     * Moves the reader to the beginning of the next line without decoding the current one.
+     *
+     * @return false when there are no more lines to skip.
+     *
+     * @throws IOException if a problem occurs mapping the file.
+     */
+    boolean skipLine() throws IOException {
+        return scanLine();
+    }
+
+    /**
+     * Moves the reader to a position of the file, which must be the beginning of a line.
+     *
+     * @param position the file position of the next line to be read.
+     */
+    void moveTo(long position) {
+        this.position = position;
+    }
+
+    /**
+     * @return the file position of the next line to be read.
+     */
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public long getLineOffset() {
+        return windowStart + lineOffset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        fileChannel.close();
+    }
+
+    private boolean scanLine() throws IOException {
+        if (position >= end) {
+            return false;
+        }
+
+        int mappingSize = windowSize;
+
+        while (true) {
+            if (!isMapped(position)) {
+                map(position, mappingSize);
+            }
+
+            int offset = (int) (position - windowStart);
+            int index = indexOfTerminator(offset);
+            boolean lastWindow = windowStart + window.limit() >= end;
+
+            if (index != -1 && (lastWindow || index + 1 < window.limit() || window.get(index) == LF)) {
+                moveAfter(offset, index);
+                return true;
+            }
+
+            if (index == -1 && lastWindow) {
+                moveAfter(offset, window.limit());
+                return true;
+            }
+
+            if (offset == 0) {
+                mappingSize = growMappingSize(mappingSize);
+            }
+
+            map(position, mappingSize);
+        }
+    }
+
+    private boolean isMapped(long filePosition) {
+        return window != null && filePosition >= windowStart && filePosition < windowStart + window.limit();
+    }
+
+    private void map(long filePosition, int mappingSize) throws IOException {
+        long length = Math.min(mappingSize, end - filePosition);
+        window = fileChannel.map(FileChannel.MapMode.READ_ONLY, filePosition, length);
+        windowStart = filePosition;
+    }
+
+    private int growMappingSize(int mappingSize) throws IOException {
+        if (mappingSize == Integer.MAX_VALUE) {
+            throw new IOException("Line at position " + position + " is bigger than the max size of a mapped window");
+        }
+
+        return (int) Math.min(mappingSize * 2L, Integer.MAX_VALUE);
+    }
+
+    private int indexOfTerminator(int offset) {
+        int limit = window.limit();
+        int bits = 0;
+
+        for (int i = offset; i < limit; i++) {
+            byte value = window.get(i);
+
+            if (value == LF || value == CR) {
+                highByte = bits < 0;
+                return i;
+            }
+
+            bits |= value;
+        }
+
+        highByte = bits < 0;
+        return -1;
+    }
+
+    private void moveAfter(int offset, int index) {
+        int limit = window.limit();
+
+        lineOffset = offset;
+        lineLength = index - offset;
+        position = windowStart + index;
+
+        if (index < limit) {
+            boolean crlf = window.get(index) == CR && index + 1 < limit && window.get(index + 1) == LF;
+            position += crlf ? 2 : 1;
+        }
+    }
+
+    private String decode(int offset, int length) {
+        if (length > lineBuffer.length) {
+            lineBuffer = new byte[Math.max(length, lineBuffer.length * 2)];
+        }
+
+        ((Buffer) window).position(offset);
+        window.get(lineBuffer, 0, length);
+
+        return lineDecoder.decode(lineBuffer, 0, length, highByte);
+    }
+
+}
@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.converter.LineValueConverter;
+import com.jonpereiradev.jfile.reader.file.LineValue;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * <p>Reads many files at the same time, each one with its own {@link JFileReaderEngine}, merging their lines in a
+ * single iteration.</p>
+ *
+ * <p>A pool of {@link JFileReaderConfig#getFileParallelism()} threads reads the files in the order of the list and
+ * hands the lines to the consumer in chunks through bounded queues. In the ordered mode each file has its own queue
+ * and the consumer drains them one after the other. Since the pool starts the files in order, the file being drained
+ * is always being read. In the unordered mode all files share one queue. Each line is tagged with its file by a
+ * {@link com.jonpereiradev.jfile.reader.file.SourceLineValue}.</p>
+ *
+ * <p>The reader must be closed to stop the threads when the lines aren't read until the end. The threads only keep a
+ * weak reference to the reader, so the threads of a reader abandoned without being closed stop waiting for the
+ * consumer after the reader is garbage collected.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class MultiFileReaderEngine implements JFileReader {
+
+    private static final int CHUNK_SIZE = 256;
+    private static final int QUEUE_CAPACITY = 16;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final List<Path> paths;
+    private final JFileReaderConfig readerConfig;
+    private final LineValueConverter lineValueConverter;
+    private final MultiFileIterator iterator;
+    private final FileProducer fileProducer;
+
+    private ExecutorService executorService;
+
+    private MultiFileReaderEngine(List<Path> paths, JFileReaderConfig readerConfig) {
+        this.paths = paths;
+        this.readerConfig = readerConfig;
+        this.lineValueConverter = readerConfig.getLineValueConverter();
+        this.iterator = new MultiFileIterator();
+        this.fileProducer = new FileProducer(readerConfig, this);
+    }
+
+    static MultiFileReaderEngine newInstance(List<Path> paths, JFileReaderConfig readerConfig) throws IOException {
+        if (readerConfig.isFollow()) {
+            throw new IllegalArgumentException("The follow mode can't read many files");
+        }
+
+        for (Path path : paths) {
+            if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+                throw new IOException("File not found or not readable: " + path);
+            }
+        }
+
+        return new MultiFileReaderEngine(Collections.unmodifiableList(new ArrayList<>(paths)), readerConfig);
+    }
+
+    @Override
+    public Iterator<LineValue> iterator() {
+        return iterator;
+    }
+
+    @Override
+    public <T> T converted(Class<T> toClass) {
+        if (iterator.lastLineValue == null) {
+            throw new NoSuchElementException("The iterator has no line value present");
+        }
+
+        return convert(iterator.lastLineValue, toClass);
+    }
+
+    @Override
+    public <T> T convert(LineValue lineValue, Class<T> toClass) {
+        return lineValueConverter.convert(lineValue, toClass);
+    }
+
+    @Override
+    public void close() {
+        fileProducer.closed = true;
+
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private List<BlockingQueue<Chunk>> start() {
+        int queueCount = readerConfig.isOrderedFiles() ? paths.size() : 1;
+        List<BlockingQueue<Chunk>> queues = new ArrayList<>(queueCount);
+
+        for (int i = 0; i < queueCount; i++) {
+            queues.add(new ArrayBlockingQueue<>(QUEUE_CAPACITY));
+        }
+
+        if (!paths.isEmpty()) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            int threads = Math.min(paths.size(), readerConfig.getFileParallelism());
+
+            executorService = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "jfile-reader-files-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            // the tasks capture the producer alone, which doesn't keep the reader reachable
+            FileProducer producer = fileProducer;
+
+            for (int i = 0; i < paths.size(); i++) {
+                Path path = paths.get(i);
+                BlockingQueue<Chunk> queue = queues.get(readerConfig.isOrderedFiles() ? i : 0);
+                executorService.execute(() -> producer.read(path, queue));
+            }
+
+            executorService.shutdown();
+        }
+
+        return queues;
+    }
+
+    /**
+     * Reads the files in the threads of the pool. It doesn't keep a strong reference to the reader, so a reader
+     * abandoned without being closed can be garbage collected while its threads wait for the consumer.
+     */
+    private static final class FileProducer {
+
+        private final JFileReaderConfig readerConfig;
+        private final WeakReference<MultiFileReaderEngine> consumer;
+
+        private volatile boolean closed;
+
+        private FileProducer(JFileReaderConfig readerConfig, MultiFileReaderEngine consumer) {
+            this.readerConfig = readerConfig;
+            this.consumer = new WeakReference<>(consumer);
+        }
+
+        private void read(Path path, BlockingQueue<Chunk> queue) {
+            try {
+                if (Files.size(path) > 0 && !readLines(path, queue)) {
+                    return;
+                }
+
+                put(queue, new Chunk(Collections.emptyList(), null, true));
+            } catch (Throwable e) {
+                put(queue, new Chunk(Collections.emptyList(), e, true));
+            }
+        }
+
+        /**
+         * @return false when the lines were not delivered because the consumer is gone.
+         */
+        private boolean readLines(Path path, BlockingQueue<Chunk> queue) throws IOException {
+            try (JFileReader fileReader = JFileReaderEngine.newInstance(path, readerConfig)) {
+                List<LineValue> lines = new ArrayList<>(CHUNK_SIZE);
+
+                for (LineValue lineValue : fileReader) {
+                    lines.add(LineValue.newSourceLineValue(path, lineValue.copy()));
+
+                    if (lines.size() == CHUNK_SIZE) {
+                        if (!put(queue, new Chunk(lines, null, false))) {
+                            return false;
+                        }
+
+                        lines = new ArrayList<>(CHUNK_SIZE);
+                    }
+
+                    if (closed) {
+                        return false;
+                    }
+                }
+
+                return lines.isEmpty() || put(queue, new Chunk(lines, null, false));
+            }
+        }
+
+        /**
+         * Waits for room in the queue until the reader is closed, or garbage collected without being closed.
+         *
+         * @return false when the chunk was not delivered because the consumer is gone.
+         */
+        private boolean put(BlockingQueue<Chunk> queue, Chunk chunk) {
+            try {
+                while (!closed) {
+                    if (queue.offer(chunk, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+
+                    if (consumer.get() == null) {
+                        closed = true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return false;
+        }
+
+    }
+
+    private static final class Chunk {
+
+        private final List<LineValue> lines;
+        private final Throwable failure;
+        private final boolean last;
+
+        private Chunk(List<LineValue> lines, Throwable failure, boolean last) {
+            this.lines = lines;
+            this.failure = failure;
+            this.last = last;
+        }
+
+    }
+
+    private final class MultiFileIterator implements Iterator<LineValue> {
+
+        private List<BlockingQueue<Chunk>> queues;
+        private Iterator<LineValue> lines = Collections.emptyIterator();
+        private int finishedFiles;
+        private LineValue lastLineValue;
+
+        @Override
+        public boolean hasNext() {
+            if (queues == null) {
+                queues = start();
+            }
+
+            while (!lines.hasNext()) {
+                if (finishedFiles == paths.size()) {
+                    return false;
+                }
+
+                Chunk chunk = take(queues.get(readerConfig.isOrderedFiles() ? finishedFiles : 0));
+
+                if (chunk.failure != null) {
+                    throw new IllegalStateException(chunk.failure);
+                }
+
+                if (chunk.last) {
+                    finishedFiles++;
+                }
+
+                lines = chunk.lines.iterator();
+            }
+
+            return true;
+        }
+
+        @Override
+        public LineValue next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more lines to read.");
+            }
+
+            lastLineValue = lines.next();
+            return lastLineValue;
+        }
+
+        private Chunk take(BlockingQueue<Chunk> queue) {
+            if (fileProducer.closed) {
+                throw new IllegalStateException("The reader is closed");
+            }
+
+            try {
+                return queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokenizer;
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokens;
+
+import java.io.IOException;
+
+
+/**
+ * Joins the lines of a record with a quoted column spanning more than one line, tokenizing the record while it is
+ * read. The lines are joined with {@code \n}.
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class QuotedLineReader implements LineReader {
+
+    private final LineReader lineReader;
+    private final LineTokenizer lineTokenizer;
+    private final LineTokens lineTokens;
+
+    private long lineOffset = -1;
+
+    QuotedLineReader(LineReader lineReader, JFileReaderConfig readerConfig) {
+        this.lineReader = lineReader;
+        this.lineTokenizer = readerConfig.getLineTokenizer();
+        this.lineTokens = new LineTokens();
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        String record = lineReader.readLine();
+
+        if (record == null) {
+            return null;
+        }
+
+        lineOffset = lineReader.getLineOffset();
+
+        lineTokenizer.tokenize(record, lineTokens);
+
+        if (!lineTokens.isIncomplete()) {
+            return record;
+        }
+
+        // the continuation lines are only scanned for the closing quote, the joined record is tokenized once
+        StringBuilder builder = new StringBuilder(record);
+        boolean incomplete = true;
+        String line;
+
+        while (incomplete && (line = lineReader.readLine()) != null) {
+            builder.append('\n').append(line);
+            incomplete = lineTokenizer.isIncompleteAfter(line);
+        }
+
+        record = builder.toString();
+        lineTokenizer.tokenize(record, lineTokens);
+        return record;
+    }
+
+    @Override
+    public LineTokens getLineTokens() {
+        return lineTokens;
+    }
+
+    @Override
+    public long getPosition() {
+        return lineReader.getPosition();
+    }
+
+    @Override
+    public long getLineOffset() {
+        return lineOffset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lineReader.close();
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokenizer;
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokens;
+
+import java.io.IOException;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * <p>Reads and tokenizes the lines in a dedicated thread, ahead of the consumer, into a bounded ring buffer of
+ * preallocated slots.</p>
+ *
+ * <p>The consumer keeps the slots of the last two lines returned, so a line remains valid until the line after it is
+ * consumed, which is the lookahead performed by the iterator. The depth of the buffer must be at least two.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class ReadAheadLineReader implements LineReader {
+
+    private final LineReader lineReader;
+    private final LineTokenizer lineTokenizer;
+    private final ReadAheadWaitStrategy waitStrategy;
+    private final String[] contents;
+    private final LineTokens[] lineTokens;
+    private final long[] positions;
+    private final long[] lineOffsets;
+    private final long[] skippedLines;
+    private final long initialPosition;
+
+    private volatile long published;
+    private volatile long retained;
+    private volatile boolean finished;
+    private volatile boolean closed;
+    private volatile Throwable failure;
+    private volatile Thread waitingProducer;
+    private volatile Thread waitingConsumer;
+
+    private Thread producer;
+    private long sequence = -1;
+
+    ReadAheadLineReader(LineReader lineReader, JFileReaderConfig readerConfig) {
+        int depth = readerConfig.getReadAheadDepth();
+
+        this.lineReader = lineReader;
+        this.lineTokenizer = readerConfig.getLineTokenizer();
+        this.waitStrategy = readerConfig.getReadAheadWaitStrategy();
+        this.contents = new String[depth];
+        this.lineTokens = new LineTokens[depth];
+        this.positions = new long[depth];
+        this.lineOffsets = new long[depth];
+        this.skippedLines = new long[depth];
+        this.initialPosition = lineReader.getPosition();
+
+        for (int i = 0; i < depth; i++) {
+            lineTokens[i] = new LineTokens();
+        }
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        if (producer == null) {
+            producer = new Thread(this::produce, "jfile-reader-read-ahead");
+            producer.setDaemon(true);
+            producer.start();
+        }
+
+        if (sequence >= 0) {
+            retained = sequence;
+            signal(waitingProducer);
+        }
+
+        long next = sequence + 1;
+
+        while (published <= next && !finished) {
+            awaitProducer(next);
+        }
+
+        if (published <= next) {
+            rethrowFailure();
+            return null;
+        }
+
+        sequence = next;
+        return contents[slot(next)];
+    }
+
+    @Override
+    public LineTokens getLineTokens() {
+        return lineTokens[slot(sequence)];
+    }
+
+    @Override
+    public long getPosition() {
+        return sequence < 0 ? initialPosition : positions[slot(sequence)];
+    }
+
+    @Override
+    public long getLineOffset() {
+        return sequence < 0 ? -1 : lineOffsets[slot(sequence)];
+    }
+
+    @Override
+    public long getSkippedLines() {
+        return sequence < 0 ? 0 : skippedLines[slot(sequence)];
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        signal(waitingProducer);
+        lineReader.close();
+    }
+
+    private void produce() {
+        try {
+            long next = 0;
+            String content;
+
+            while (!closed && (content = lineReader.readLine()) != null) {
+                while (next - retained >= contents.length && !closed) {
+                    awaitConsumer(next);
+                }
+
+                int slot = slot(next);
+                contents[slot] = content;
+                positions[slot] = lineReader.getPosition();
+                lineOffsets[slot] = lineReader.getLineOffset();
+                skippedLines[slot] = lineReader.getSkippedLines();
+                tokenize(content, lineTokens[slot]);
+                published = ++next;
+                signal(waitingConsumer);
+            }
+        } catch (Throwable e) {
+            if (!closed) {
+                failure = e;
+            }
+        } finally {
+            finished = true;
+            signal(waitingConsumer);
+        }
+    }
+
+    private void tokenize(String content, LineTokens slotTokens) {
+        LineTokens readerTokens = lineReader.getLineTokens();
+
+        if (readerTokens != null) {
+            // the wrapped reader already tokenized the line, as the quoted reader does while joining a record
+            slotTokens.copyFrom(readerTokens);
+        } else {
+            lineTokenizer.tokenize(content, slotTokens);
+        }
+    }
+
+    private void awaitProducer(long next) {
+        if (waitStrategy == ReadAheadWaitStrategy.BLOCKING) {
+            waitingConsumer = Thread.currentThread();
+
+            if (published <= next && !finished) {
+                LockSupport.park(this);
+            }
+
+            waitingConsumer = null;
+        } else if (waitStrategy == ReadAheadWaitStrategy.YIELDING) {
+            Thread.yield();
+        }
+    }
+
+    private void awaitConsumer(long next) {
+        if (waitStrategy == ReadAheadWaitStrategy.BLOCKING) {
+            waitingProducer = Thread.currentThread();
+
+            if (next - retained >= contents.length && !closed) {
+                LockSupport.park(this);
+            }
+
+            waitingProducer = null;
+        } else if (waitStrategy == ReadAheadWaitStrategy.YIELDING) {
+            Thread.yield();
+        }
+    }
+
+    private void signal(Thread waitingThread) {
+        if (waitingThread != null) {
+            LockSupport.unpark(waitingThread);
+        }
+    }
+
+    private void rethrowFailure() throws IOException {
+        Throwable throwable = failure;
+
+        if (throwable instanceof IOException) {
+            throw (IOException) throwable;
+        }
+
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        }
+
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+    }
+
+    private int slot(long lineSequence) {
+        return (int) (lineSequence % contents.length);
+    }
+
+}
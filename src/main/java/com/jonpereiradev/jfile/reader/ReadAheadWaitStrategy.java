@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+/**
+ * <p>How the reader thread and the consumer thread wait for each other when the read-ahead buffer is full or
+ * empty.</p>
+ *
+ * @author jonpereiradev
+ * @see JFileReaderConfig#readAhead(int)
+ * @since 0.9.0
+ */
+public enum ReadAheadWaitStrategy {
+
+    /**
+     * Parks the waiting thread until the other thread signals progress. Uses the least CPU.
+     */
+    BLOCKING,
+
+    /**
+     * Yields the waiting thread to other threads while checking for progress.
+     */
+    YIELDING,
+
+    /**
+     * Checks for progress in a busy loop. Has the lowest latency but keeps a core busy for each waiting thread, so
+     * it should only be used when both threads have a dedicated core.
+     */
+    BUSY_SPIN
+
+}
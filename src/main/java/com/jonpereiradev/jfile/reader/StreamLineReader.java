@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+
+/**
+ * <p>Reads the lines of an {@link InputStream} scanning its bytes for the line terminators, instead of decoding the
+ * whole stream through an {@link java.io.InputStreamReader}. Each line is built by the {@link LineDecoder}, so ASCII
+ * lines don't go through a charset decoder.</p>
+ *
+ * <p>The line terminators are the same of {@link java.io.BufferedReader#readLine()}, and the charset must encode them
+ * as single bytes, as required by {@link MappedLineReader#isSupported(Charset)}.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class StreamLineReader implements LineReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final InputStream inputStream;
+    private final LineDecoder lineDecoder;
+
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    private long bufferPosition;
+    private long lineOffset = -1;
+    private int start;
+    private int limit;
+    private int scanned;
+    private int scannedBits;
+    private boolean endOfStream;
+
+    StreamLineReader(InputStream inputStream, Charset charset) {
+        this.inputStream = inputStream;
+        this.lineDecoder = new LineDecoder(charset);
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        while (true) {
+            int index = scanned;
+
+            while (index < limit && buffer[index] != LF && buffer[index] != CR) {
+                scannedBits |= buffer[index++];
+            }
+
+            if (index < limit) {
+                if (buffer[index] == LF) {
+                    return takeLine(index, index + 1);
+                }
+
+                if (index + 1 < limit) {
+                    return takeLine(index, buffer[index + 1] == LF ? index + 2 : index + 1);
+                }
+
+                if (endOfStream) {
+                    return takeLine(index, index + 1);
+                }
+
+                // a CR at the end of the buffer is scanned again with the byte after it, so the position of the next
+                // line never points to the LF of a CRLF
+            }
+
+            scanned = index;
+
+            if (endOfStream) {
+                return start < limit ? takeLine(limit, limit) : null;
+            }
+
+            fill();
+        }
+    }
+
+    @Override
+    public long getPosition() {
+        return bufferPosition + start;
+    }
+
+    @Override
+    public long getLineOffset() {
+        return lineOffset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+
+    private String takeLine(int end, int next) {
+        String line = lineDecoder.decode(buffer, start, end - start, scannedBits < 0);
+        lineOffset = bufferPosition + start;
+        start = next;
+        scanned = next;
+        scannedBits = 0;
+        return line;
+    }
+
+    private void fill() throws IOException {
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, limit - start);
+            bufferPosition += start;
+            limit -= start;
+            scanned -= start;
+            start = 0;
+        }
+
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        int read = inputStream.read(buffer, limit, buffer.length - limit);
+
+        if (read == -1) {
+            endOfStream = true;
+        } else {
+            limit += read;
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+
+/**
+ * <p>Inflates the entries of a zip file in parallel. The content of the file is the concatenation of the content of
+ * its entries, in the order of the central directory, and a line separator is added after an entry that doesn't end
+ * with one, so the last line of an entry is never joined with the first line of the next.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class ZipInflatingInputStream extends InflatingInputStream {
+
+    private static final byte[] LINE_FEED = {'\n'};
+
+    private final ZipFile zipFile;
+    private final List<ZipEntry> entries = new ArrayList<>();
+
+    private ZipInflatingInputStream(ZipFile zipFile, int parallelism) {
+        super(parallelism);
+        this.zipFile = zipFile;
+    }
+
+    static ZipInflatingInputStream newInstance(Path path, int parallelism) throws IOException {
+        ZipFile zipFile = new ZipFile(path.toFile());
+
+        try {
+            ZipInflatingInputStream inputStream = new ZipInflatingInputStream(zipFile, parallelism);
+            inputStream.start(inputStream.findEntries());
+            return inputStream;
+        } catch (IOException | RuntimeException e) {
+            zipFile.close();
+            throw e;
+        }
+    }
+
+    @Override
+    void inflate(Segment segment) throws IOException {
+        ZipEntry entry = entries.get(segment.getIndex());
+        byte[] buffer = new byte[CHUNK_SIZE];
+        byte last = '\n';
+        boolean empty = true;
+
+        try (InputStream inputStream = zipFile.getInputStream(entry)) {
+            int read;
+
+            while ((read = inputStream.read(buffer)) != -1) {
+                if (read == 0) {
+                    continue;
+                }
+
+                empty = false;
+                last = buffer[read - 1];
+
+                if (!write(segment, buffer, read)) {
+                    return;
+                }
+            }
+        }
+
+        if (!empty && last != '\n' && last != '\r') {
+            write(segment, LINE_FEED, LINE_FEED.length);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+        zipFile.close();
+    }
+
+    private List<Long> findEntries() {
+        List<Long> starts = new ArrayList<>();
+        Enumeration<? extends ZipEntry> enumeration = zipFile.entries();
+
+        while (enumeration.hasMoreElements()) {
+            ZipEntry entry = enumeration.nextElement();
+
+            if (!entry.isDirectory()) {
+                starts.add((long) entries.size());
+                entries.add(entry);
+            }
+        }
+
+        return Collections.unmodifiableList(starts);
+    }
+
+}
@@ -40,4 +40,19 @@ public @interface FileColumn {
 
     int value();
 
+    /**
+     * @return the zero-based offset of the first character of the column in a fixed-width line, or -1 when the line is
+     * split by a pattern.
+     *
+     * @since 0.9.0
+     */
+    int start() default -1;
+
+    /**
+     * @return the number of characters of the column in a fixed-width line.
+     *
+     * @since 0.9.0
+     */
+    int length() default 0;
+
 }
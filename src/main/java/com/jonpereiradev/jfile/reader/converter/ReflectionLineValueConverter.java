@@ -60,9 +60,9 @@ public final class ReflectionLineValueConverter implements LineValueConverter {
         Map<Integer, GetterSetterPair> pair = getGetterSetterPair(classType);
         ReflectionObjectWriter reflectionObjectWriter = new ReflectionObjectWriter(readerConfig);
 
-        lineValue.getColumnValues().forEach(o -> {
-            if (pair.containsKey(o.getColumnNumber())) {
-                reflectionObjectWriter.write(object, o, pair.get(o.getColumnNumber()));
+        pair.forEach((columnNumber, getterSetterPair) -> {
+            if (lineValue.hasColumnValue(columnNumber)) {
+                reflectionObjectWriter.write(object, lineValue.getColumnValue(columnNumber), getterSetterPair);
             }
         });
 
@@ -43,6 +43,21 @@ import java.util.regex.Pattern;
  */
 public interface ColumnValue extends Comparable<ColumnValue> {
 
+    /**
+     * Value returned by {@link #getAsInt()} for an empty column.
+     */
+    int NULL_INT = Integer.MIN_VALUE;
+
+    /**
+     * Value returned by {@link #getAsLong()} for an empty column.
+     */
+    long NULL_LONG = Long.MIN_VALUE;
+
+    /**
+     * Value returned by {@link #getAsDouble()} for an empty column, checked with {@link Double#isNaN(double)}.
+     */
+    double NULL_DOUBLE = Double.NaN;
+
     static ColumnValue newColumnValue(JFilePatternConfig patternConfig, int columnNumber, String content) {
         return new ColumnValueImpl(patternConfig, columnNumber, content);
     }
@@ -51,6 +66,67 @@ public interface ColumnValue extends Comparable<ColumnValue> {
 
     <T> T getContent(Class<T> clazz);
 
+    /**
+     * Parses the column to one of the types of {@link #getContent(Class)} without throwing an exception when the column
+     * isn't parsable, using the formatters of the {@link #getPatternConfig() pattern config}. The default
+     * implementation reads the column with {@link #getContent(Class)} and reports any exception of the getter as an
+     * invalid result.
+     *
+     * @param type the type of the value.
+     * @param <T> the type of the value.
+     *
+     * @return the parsed value, or an empty or invalid result.
+     *
+     * @throws IllegalArgumentException if the type isn't supported.
+     */
+    default <T> ParsedValue<T> tryParse(Class<T> type) {
+        return ParsedValue.fromGetter(getText(), () -> getContent(type));
+    }
+
+    /**
+     * @param bigDecimalFormatter the format of the column.
+     *
+     * @return the parsed value, or an empty or invalid result.
+     *
+     * @see #tryParse(Class)
+     */
+    default ParsedValue<BigDecimal> tryParseBigDecimal(DecimalFormat bigDecimalFormatter) {
+        return ParsedValue.fromGetter(getText(), () -> getBigDecimal(bigDecimalFormatter));
+    }
+
+    /**
+     * @param dateFormat the format of the column.
+     *
+     * @return the parsed value, or an empty or invalid result.
+     *
+     * @see #tryParse(Class)
+     */
+    default ParsedValue<Date> tryParseDate(DateFormat dateFormat) {
+        return ParsedValue.fromGetter(getText(), () -> getDate(dateFormat));
+    }
+
+    /**
+     * @param dateTimeFormatter the format of the column.
+     *
+     * @return the parsed value, or an empty or invalid result.
+     *
+     * @see #tryParse(Class)
+     */
+    default ParsedValue<LocalDate> tryParseLocalDate(DateTimeFormatter dateTimeFormatter) {
+        return ParsedValue.fromGetter(getText(), () -> getLocalDate(dateTimeFormatter));
+    }
+
+    /**
+     * @param dateTimeFormatter the format of the column.
+     *
+     * @return the parsed value, or an empty or invalid result.
+     *
+     * @see #tryParse(Class)
+     */
+    default ParsedValue<LocalDateTime> tryParseLocalDateTime(DateTimeFormatter dateTimeFormatter) {
+        return ParsedValue.fromGetter(getText(), () -> getLocalDateTime(dateTimeFormatter));
+    }
+
     String getText();
 
     String[] getTextArray();
@@ -71,12 +147,62 @@ public interface ColumnValue extends Comparable<ColumnValue> {
 
     Integer getInt();
 
+    /**
+     * Parses the column as a primitive int without boxing it.
+     *
+     * @return the value of the column or {@link #NULL_INT} when the column is empty.
+     *
+     * @throws NumberFormatException if the column isn't an int.
+     */
+    default int getAsInt() {
+        return getAsInt(NULL_INT);
+    }
+
+    /**
+     * Parses the column as a primitive int without boxing it.
+     *
+     * @param defaultValue the value returned when the column is empty.
+     *
+     * @return the value of the column or the default value when the column is empty.
+     *
+     * @throws NumberFormatException if the column isn't an int.
+     */
+    default int getAsInt(int defaultValue) {
+        Integer value = getInt();
+        return value == null ? defaultValue : value;
+    }
+
     Integer[] getIntArray();
 
     Integer[] getIntArray(Pattern splitPattern);
 
     Long getLong();
 
+    /**
+     * Parses the column as a primitive long without boxing it.
+     *
+     * @return the value of the column or {@link #NULL_LONG} when the column is empty.
+     *
+     * @throws NumberFormatException if the column isn't a long.
+     */
+    default long getAsLong() {
+        return getAsLong(NULL_LONG);
+    }
+
+    /**
+     * Parses the column as a primitive long without boxing it.
+     *
+     * @param defaultValue the value returned when the column is empty.
+     *
+     * @return the value of the column or the default value when the column is empty.
+     *
+     * @throws NumberFormatException if the column isn't a long.
+     */
+    default long getAsLong(long defaultValue) {
+        Long value = getLong();
+        return value == null ? defaultValue : value;
+    }
+
     Long[] getLongArray();
 
     Long[] getLongArray(Pattern splitPattern);
@@ -89,12 +215,49 @@ public interface ColumnValue extends Comparable<ColumnValue> {
 
     Double getDouble();
 
+    /**
+     * Parses the column as a primitive double without boxing it.
+     *
+     * @return the value of the column or {@link #NULL_DOUBLE} when the column is empty.
+     *
+     * @throws NumberFormatException if the column isn't a double.
+     */
+    default double getAsDouble() {
+        return getAsDouble(NULL_DOUBLE);
+    }
+
+    /**
+     * Parses the column as a primitive double without boxing it.
+     *
+     * @param defaultValue the value returned when the column is empty.
+     *
+     * @return the value of the column or the default value when the column is empty.
+     *
+     * @throws NumberFormatException if the column isn't a double.
+     */
+    default double getAsDouble(double defaultValue) {
+        Double value = getDouble();
+        return value == null ? defaultValue : value;
+    }
+
     Double[] getDoubleArray();
 
     Double[] getDoubleArray(Pattern splitPattern);
 
     Boolean getBoolean();
 
+    /**
+     * Reads the column as a primitive boolean, accepting the same values of {@link #getBoolean()}.
+     *
+     * @param defaultValue the value returned when the column is empty or isn't a boolean.
+     *
+     * @return the value of the column or the default value.
+     */
+    default boolean getAsBoolean(boolean defaultValue) {
+        Boolean value = getBoolean();
+        return value == null ? defaultValue : value;
+    }
+
     Boolean[] getBooleanArray();
 
     Boolean[] getBooleanArray(Pattern splitPattern);
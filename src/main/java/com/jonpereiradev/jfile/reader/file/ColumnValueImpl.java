@@ -32,15 +32,20 @@ import java.math.BigInteger;
 import java.text.DateFormat;
 import java.text.DecimalFormat;
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 
@@ -48,6 +53,7 @@ final class ColumnValueImpl implements ColumnValue {
 
     private static final Pattern DEFAULT_ARRAY_SEPARATOR = Pattern.compile(",\\s*");
     private static final ConcurrentMap<Class<?>, Function<ColumnValueImpl, ?>> MAPPER = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Function<ColumnValueImpl, ParsedValue<?>>> PARSERS = new HashMap<>();
 
     static {
         MAPPER.putIfAbsent(char.class, ColumnValueImpl::getCharacter);
@@ -70,12 +76,36 @@ final class ColumnValueImpl implements ColumnValue {
         MAPPER.putIfAbsent(Date.class, ColumnValueImpl::getDate);
         MAPPER.putIfAbsent(LocalDate.class, ColumnValueImpl::getLocalDate);
         MAPPER.putIfAbsent(LocalDateTime.class, ColumnValueImpl::getLocalDateTime);
+
+        PARSERS.put(char.class, ColumnValueImpl::tryParseCharacter);
+        PARSERS.put(Character.class, ColumnValueImpl::tryParseCharacter);
+        PARSERS.put(String.class, ColumnValueImpl::tryParseText);
+        PARSERS.put(short.class, ColumnValueImpl::tryParseShort);
+        PARSERS.put(Short.class, ColumnValueImpl::tryParseShort);
+        PARSERS.put(int.class, ColumnValueImpl::tryParseInt);
+        PARSERS.put(Integer.class, ColumnValueImpl::tryParseInt);
+        PARSERS.put(long.class, ColumnValueImpl::tryParseLong);
+        PARSERS.put(Long.class, ColumnValueImpl::tryParseLong);
+        PARSERS.put(float.class, ColumnValueImpl::tryParseFloat);
+        PARSERS.put(Float.class, ColumnValueImpl::tryParseFloat);
+        PARSERS.put(double.class, ColumnValueImpl::tryParseDouble);
+        PARSERS.put(Double.class, ColumnValueImpl::tryParseDouble);
+        PARSERS.put(boolean.class, ColumnValueImpl::tryParseBoolean);
+        PARSERS.put(Boolean.class, ColumnValueImpl::tryParseBoolean);
+        PARSERS.put(BigInteger.class, ColumnValueImpl::tryParseBigInteger);
+        PARSERS.put(BigDecimal.class, o -> o.tryParseBigDecimal(o.patternConfig.getBigDecimalFormatter()));
+        PARSERS.put(Date.class, o -> o.tryParseDate(o.patternConfig.getDateFormat()));
+        PARSERS.put(LocalDate.class, o -> o.tryParseLocalDate(o.patternConfig.getLocalDateFormatter()));
+        PARSERS.put(LocalDateTime.class, o -> o.tryParseLocalDateTime(o.patternConfig.getLocalDateTimeFormatter()));
     }
 
     private final JFilePatternConfig patternConfig;
 
-    private final int columnNumber;
-    private final String content;
+    private int columnNumber;
+    private String content;
+    private Object parsedValue;
+    private Object parsedFormat;
+    private volatile Class<?> parsedType;
 
     ColumnValueImpl(JFilePatternConfig patternConfig, int columnNumber, String content) {
         this.patternConfig = patternConfig;
@@ -83,6 +113,27 @@ final class ColumnValueImpl implements ColumnValue {
         this.content = RuleUtils.trimToEmpty(content);
     }
 
+    /**
+     * Creates the column with the content sliced by the line, which is already trimmed when the line trims the columns.
+     */
+    static ColumnValueImpl newSlicedColumnValue(JFilePatternConfig patternConfig, int columnNumber, String content) {
+        ColumnValueImpl columnValue = new ColumnValueImpl(patternConfig, columnNumber, null);
+        columnValue.reset(columnNumber, content);
+        return columnValue;
+    }
+
+    /**
+     * Refills the column with the sliced content of another line, used by {@link ReusableLineValue} to avoid
+     * allocations.
+     */
+    void reset(int columnNumber, String content) {
+        this.columnNumber = columnNumber;
+        this.content = content;
+        this.parsedType = null;
+        this.parsedFormat = null;
+        this.parsedValue = null;
+    }
+
     @Override
     public int getColumnNumber() {
         return columnNumber;
@@ -93,6 +144,82 @@ final class ColumnValueImpl implements ColumnValue {
         return (T) MAPPER.get(clazz).apply(this);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ParsedValue<T> tryParse(Class<T> type) {
+        Function<ColumnValueImpl, ParsedValue<?>> parser = PARSERS.get(type);
+
+        if (parser == null) {
+            throw new IllegalArgumentException("Type " + type.getName() + " is not supported");
+        }
+
+        return (ParsedValue<T>) parser.apply(this);
+    }
+
+    @Override
+    public ParsedValue<BigDecimal> tryParseBigDecimal(DecimalFormat bigDecimalFormatter) {
+        if (RuleUtils.isBlank(content)) {
+            return ParsedValue.empty();
+        }
+
+        BigDecimal value = lookup(BigDecimal.class, bigDecimalFormatter);
+
+        if (value != null) {
+            return ParsedValue.of(value);
+        }
+
+        ParsePosition position = new ParsePosition(0);
+        Number number = bigDecimalFormatter.parse(content, position);
+
+        if (!(number instanceof BigDecimal) || position.getIndex() == 0) {
+            return ParsedValue.invalid();
+        }
+
+        return ParsedValue.of(share(BigDecimal.class, bigDecimalFormatter, (BigDecimal) number));
+    }
+
+    @Override
+    public ParsedValue<Date> tryParseDate(DateFormat dateFormat) {
+        if (RuleUtils.isBlank(content)) {
+            return ParsedValue.empty();
+        }
+
+        Date value = lookup(Date.class, dateFormat);
+
+        if (value != null) {
+            return ParsedValue.of((Date) value.clone());
+        }
+
+        ParsePosition position = new ParsePosition(0);
+        Date date = dateFormat.parse(content, position);
+
+        if (date == null || position.getIndex() == 0) {
+            return ParsedValue.invalid();
+        }
+
+        return ParsedValue.of((Date) share(Date.class, dateFormat, date).clone());
+    }
+
+    @Override
+    public ParsedValue<LocalDate> tryParseLocalDate(DateTimeFormatter dateTimeFormatter) {
+        return tryParseTemporal(
+            dateTimeFormatter,
+            LocalDate.class,
+            LocalDate::from,
+            dateTimeFormatter == DateTimeFormatter.ISO_LOCAL_DATE ? IsoDateParser::toLocalDate : null
+        );
+    }
+
+    @Override
+    public ParsedValue<LocalDateTime> tryParseLocalDateTime(DateTimeFormatter dateTimeFormatter) {
+        return tryParseTemporal(
+            dateTimeFormatter,
+            LocalDateTime.class,
+            LocalDateTime::from,
+            dateTimeFormatter == DateTimeFormatter.ISO_LOCAL_DATE_TIME ? IsoDateParser::toLocalDateTime : null
+        );
+    }
+
     @Override
     public String getText() {
         return content;
@@ -143,7 +270,13 @@ final class ColumnValueImpl implements ColumnValue {
             return null;
         }
 
-        return Short.valueOf(content);
+        Short value = recall(Short.class, null);
+
+        if (value != null) {
+            return value;
+        }
+
+        return remember(Short.class, null, Short.valueOf(content));
     }
 
     @Override
@@ -165,7 +298,28 @@ final class ColumnValueImpl implements ColumnValue {
             return null;
         }
 
-        return Integer.valueOf(content);
+        Integer value = recall(Integer.class, null);
+
+        if (value != null) {
+            return value;
+        }
+
+        return remember(Integer.class, null, NumberParser.parseInt(content));
+    }
+
+    @Override
+    public int getAsInt() {
+        return getAsInt(NULL_INT);
+    }
+
+    @Override
+    public int getAsInt(int defaultValue) {
+        if (RuleUtils.isBlank(content)) {
+            return defaultValue;
+        }
+
+        Integer value = recall(Integer.class, null);
+        return value != null ? value : NumberParser.parseInt(content);
     }
 
     @Override
@@ -187,7 +341,28 @@ final class ColumnValueImpl implements ColumnValue {
             return null;
         }
 
-        return Long.valueOf(content);
+        Long value = recall(Long.class, null);
+
+        if (value != null) {
+            return value;
+        }
+
+        return remember(Long.class, null, NumberParser.parseLong(content));
+    }
+
+    @Override
+    public long getAsLong() {
+        return getAsLong(NULL_LONG);
+    }
+
+    @Override
+    public long getAsLong(long defaultValue) {
+        if (RuleUtils.isBlank(content)) {
+            return defaultValue;
+        }
+
+        Long value = recall(Long.class, null);
+        return value != null ? value : NumberParser.parseLong(content);
     }
 
     @Override
@@ -209,7 +384,13 @@ final class ColumnValueImpl implements ColumnValue {
             return null;
         }
 
-        return Float.valueOf(content);
+        Float value = recall(Float.class, null);
+
+        if (value != null) {
+            return value;
+        }
+
+        return remember(Float.class, null, Float.valueOf(content));
     }
 
     @Override
@@ -231,7 +412,28 @@ final class ColumnValueImpl implements ColumnValue {
             return null;
         }
 
-        return Double.valueOf(content);
+        Double value = recall(Double.class, null);
+
+        if (value != null) {
+            return value;
+        }
+
+        return remember(Double.class, null, NumberParser.parseDouble(content));
+    }
+
+    @Override
+    public double getAsDouble() {
+        return getAsDouble(NULL_DOUBLE);
+    }
+
+    @Override
+    public double getAsDouble(double defaultValue) {
+        if (RuleUtils.isBlank(content)) {
+            return defaultValue;
+        }
+
+        Double value = recall(Double.class, null);
+        return value != null ? value : NumberParser.parseDouble(content);
     }
 
     @Override
@@ -264,6 +466,12 @@ final class ColumnValueImpl implements ColumnValue {
         return RuleUtils.toBooleanObject(booleanString);
     }
 
+    @Override
+    public boolean getAsBoolean(boolean defaultValue) {
+        Boolean value = getBoolean();
+        return value == null ? defaultValue : value;
+    }
+
     @Override
     public Boolean[] getBooleanArray() {
         return getBooleanArray(DEFAULT_ARRAY_SEPARATOR);
@@ -283,7 +491,13 @@ final class ColumnValueImpl implements ColumnValue {
             return null;
         }
 
-        return new BigInteger(content);
+        BigInteger value = recall(BigInteger.class, null);
+
+        if (value != null) {
+            return value;
+        }
+
+        return remember(BigInteger.class, null, new BigInteger(content));
     }
 
     @Override
@@ -310,8 +524,14 @@ final class ColumnValueImpl implements ColumnValue {
             return null;
         }
 
+        BigDecimal value = lookup(BigDecimal.class, bigDecimalFormatter);
+
+        if (value != null) {
+            return value;
+        }
+
         try {
-            return (BigDecimal) bigDecimalFormatter.parse(content);
+            return share(BigDecimal.class, bigDecimalFormatter, (BigDecimal) bigDecimalFormatter.parse(content));
         } catch (ParseException e) {
             throw new NumberFormatException(
                 "The value '" + content + "' is not parsable to BigDecimal with current DecimalFormat"
@@ -348,8 +568,14 @@ final class ColumnValueImpl implements ColumnValue {
             return null;
         }
 
+        Date value = lookup(Date.class, dateFormat);
+
+        if (value != null) {
+            return (Date) value.clone();
+        }
+
         try {
-            return dateFormat.parse(content);
+            return (Date) share(Date.class, dateFormat, dateFormat.parse(content)).clone();
         } catch (ParseException e) {
             throw new IllegalStateException(
                 "The value '" + content + "' is not parsable to Date with current DateFormat"
@@ -386,7 +612,17 @@ final class ColumnValueImpl implements ColumnValue {
             return null;
         }
 
-        return LocalDate.parse(content, dateTimeFormatter);
+        LocalDate value = lookup(LocalDate.class, dateTimeFormatter);
+
+        if (value != null) {
+            return value;
+        }
+
+        LocalDate parsed = dateTimeFormatter == DateTimeFormatter.ISO_LOCAL_DATE
+            ? IsoDateParser.parseLocalDate(content)
+            : LocalDate.parse(content, dateTimeFormatter);
+
+        return share(LocalDate.class, dateTimeFormatter, parsed);
     }
 
     @Override
@@ -418,7 +654,17 @@ final class ColumnValueImpl implements ColumnValue {
             return null;
         }
 
-        return LocalDateTime.parse(content, dateTimeFormatter);
+        LocalDateTime value = lookup(LocalDateTime.class, dateTimeFormatter);
+
+        if (value != null) {
+            return value;
+        }
+
+        LocalDateTime parsed = dateTimeFormatter == DateTimeFormatter.ISO_LOCAL_DATE_TIME
+            ? IsoDateParser.parseLocalDateTime(content)
+            : LocalDateTime.parse(content, dateTimeFormatter);
+
+        return share(LocalDateTime.class, dateTimeFormatter, parsed);
     }
 
     @Override
@@ -444,6 +690,178 @@ final class ColumnValueImpl implements ColumnValue {
         return patternConfig;
     }
 
+    private ParsedValue<String> tryParseText() {
+        return content.isEmpty() ? ParsedValue.empty() : ParsedValue.of(content);
+    }
+
+    private ParsedValue<Character> tryParseCharacter() {
+        return tryParse(Character.class, o -> o.content.length() == 1, ColumnValueImpl::getCharacter);
+    }
+
+    private ParsedValue<Short> tryParseShort() {
+        return tryParse(
+            Short.class,
+            o -> NumberParser.isInteger(o.content, Short.MIN_VALUE, Short.MAX_VALUE),
+            ColumnValueImpl::getShort
+        );
+    }
+
+    private ParsedValue<Integer> tryParseInt() {
+        return tryParse(
+            Integer.class,
+            o -> NumberParser.isInteger(o.content, Integer.MIN_VALUE, Integer.MAX_VALUE),
+            ColumnValueImpl::getInt
+        );
+    }
+
+    private ParsedValue<Long> tryParseLong() {
+        return tryParse(
+            Long.class,
+            o -> NumberParser.isInteger(o.content, Long.MIN_VALUE, Long.MAX_VALUE),
+            ColumnValueImpl::getLong
+        );
+    }
+
+    private ParsedValue<Float> tryParseFloat() {
+        return tryParse(Float.class, o -> NumberParser.isDecimal(o.content), ColumnValueImpl::getFloat);
+    }
+
+    private ParsedValue<Double> tryParseDouble() {
+        return tryParse(Double.class, o -> NumberParser.isDecimal(o.content), ColumnValueImpl::getDouble);
+    }
+
+    private ParsedValue<BigInteger> tryParseBigInteger() {
+        return tryParse(BigInteger.class, o -> NumberParser.isBigInteger(o.content), ColumnValueImpl::getBigInteger);
+    }
+
+    private ParsedValue<Boolean> tryParseBoolean() {
+        return tryParse(Boolean.class, o -> o.getBoolean() != null, ColumnValueImpl::getBoolean);
+    }
+
+    /**
+     * Parses the column after it was checked by a validation that mirrors the parser, so the parser doesn't throw. The
+     * validation is skipped when the column was already parsed to the type.
+     */
+    private <T> ParsedValue<T> tryParse(
+        Class<T> type,
+        Predicate<ColumnValueImpl> parsable,
+        Function<ColumnValueImpl, T> parser) {
+        if (RuleUtils.isBlank(content)) {
+            return ParsedValue.empty();
+        }
+
+        if (recall(type, null) != null || parsable.test(this)) {
+            return ParsedValue.of(parser.apply(this));
+        }
+
+        return ParsedValue.invalid();
+    }
+
+    /**
+     * Parses the column once with the format view of the formatter, which reports the errors of the syntax and of the
+     * fields, like a 31st of February, in the position instead of throwing. The ISO formatters first try the fixed
+     * positions parse, which returns null for the forms it doesn't handle.
+     */
+    private <T> ParsedValue<T> tryParseTemporal(
+        DateTimeFormatter dateTimeFormatter,
+        Class<T> type,
+        TemporalQuery<T> query,
+        Function<String, T> isoParser) {
+        if (RuleUtils.isBlank(content)) {
+            return ParsedValue.empty();
+        }
+
+        T value = lookup(type, dateTimeFormatter);
+
+        if (value == null && isoParser != null) {
+            value = isoParser.apply(content);
+
+            if (value != null) {
+                share(type, dateTimeFormatter, value);
+            }
+        }
+
+        if (value != null) {
+            return ParsedValue.of(value);
+        }
+
+        ParsePosition position = new ParsePosition(0);
+        Object parsed = dateTimeFormatter.toFormat(query).parseObject(content, position);
+
+        if (!type.isInstance(parsed) || position.getErrorIndex() >= 0 || position.getIndex() < content.length()) {
+            return ParsedValue.invalid();
+        }
+
+        return ParsedValue.of(share(type, dateTimeFormatter, type.cast(parsed)));
+    }
+
+    /**
+     * @return the value of the last parse of the column when it was parsed to the type with the format, or null.
+     */
+    private <T> T recall(Class<T> type, Object format) {
+        if (parsedType == type && parsedFormat == format) {
+            Object value = parsedValue;
+
+            if (type.isInstance(value)) {
+                return type.cast(value);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Keeps the value parsed, so the rules and the converter of a line share a single parse of each column. The slot
+     * is updated in place and the type is written last, so a thread that sees the type also sees its value.
+     */
+    private <T> T remember(Class<T> type, Object format, T value) {
+        parsedValue = value;
+        parsedFormat = format;
+        parsedType = type;
+        return value;
+    }
+
+    /**
+     * @return the value of the last parse of the column, or of the same text parsed by another column when the type
+     * is kept in the parse cache of the config, or null.
+     */
+    private <T> T lookup(Class<T> type, Object format) {
+        T value = recall(type, format);
+
+        if (value != null) {
+            return value;
+        }
+
+        ParseCache parseCache = getParseCache(type);
+        value = parseCache == null ? null : parseCache.get(type, format, content);
+
+        return value == null ? null : remember(type, format, value);
+    }
+
+    /**
+     * Keeps the value parsed in the column and in the parse cache of the config, when the type is kept in it.
+     */
+    private <T> T share(Class<T> type, Object format, T value) {
+        ParseCache parseCache = getParseCache(type);
+
+        if (parseCache != null) {
+            parseCache.put(format, content, value);
+        }
+
+        return remember(type, format, value);
+    }
+
+    /**
+     * @return the parse cache of the config for the types whose texts repeat along the files, or null.
+     */
+    private ParseCache getParseCache(Class<?> type) {
+        if (type == BigDecimal.class || type == Date.class || type == LocalDate.class) {
+            return patternConfig.getParseCache();
+        }
+
+        return null;
+    }
+
     private <T> T[] getArrayOf(Pattern splitPattern, Function<ColumnValueImpl[], T[]> function) {
         String[] split = splitPattern.split(content);
 
@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.file;
+
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+
+/**
+ * Unmodifiable view of the columns of an {@link IndexedLineValue} that creates each column only when it is iterated.
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class ColumnValueSet extends AbstractSet<ColumnValue> implements SortedSet<ColumnValue> {
+
+    private final IndexedLineValue lineValue;
+
+    ColumnValueSet(IndexedLineValue lineValue) {
+        this.lineValue = lineValue;
+    }
+
+    @Override
+    public Iterator<ColumnValue> iterator() {
+        return new Iterator<ColumnValue>() {
+
+            private int columnNumber;
+
+            @Override
+            public boolean hasNext() {
+                return columnNumber < size();
+            }
+
+            @Override
+            public ColumnValue next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more columns in the line.");
+                }
+
+                return lineValue.getColumnValue(++columnNumber);
+            }
+
+        };
+    }
+
+    @Override
+    public int size() {
+        return lineValue.getColumnCount();
+    }
+
+    @Override
+    public Comparator<? super ColumnValue> comparator() {
+        return null;
+    }
+
+    @Override
+    public SortedSet<ColumnValue> subSet(ColumnValue fromElement, ColumnValue toElement) {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(this).subSet(fromElement, toElement));
+    }
+
+    @Override
+    public SortedSet<ColumnValue> headSet(ColumnValue toElement) {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(this).headSet(toElement));
+    }
+
+    @Override
+    public SortedSet<ColumnValue> tailSet(ColumnValue fromElement) {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(this).tailSet(fromElement));
+    }
+
+    @Override
+    public ColumnValue first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The line has no columns.");
+        }
+
+        return lineValue.getColumnValue(1);
+    }
+
+    @Override
+    public ColumnValue last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The line has no columns.");
+        }
+
+        return lineValue.getColumnValue(size());
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.file;
+
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+
+
+/**
+ * <p>Parses the dates of a column formatted by {@link DateTimeFormatter#ISO_LOCAL_DATE} and
+ * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} reading the digits at their fixed positions. The common forms, with a
+ * year of four digits and valid fields, are built without the parse context of the formatter, and any other text, like
+ * a signed year, a lower case separator or an invalid day, is delegated to the formatter, so the results and the errors
+ * are the same of it.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class IsoDateParser {
+
+    private static final int DATE_LENGTH = 10;
+    private static final int MINUTE_LENGTH = DATE_LENGTH + 6;
+    private static final int SECOND_LENGTH = MINUTE_LENGTH + 3;
+    private static final int MAX_FRACTION_DIGITS = 9;
+    private static final int[] NANO_SCALES = {
+        1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    private IsoDateParser() {
+        throw new UnsupportedOperationException("Instantiation not supported");
+    }
+
+    static LocalDate parseLocalDate(String text) {
+        LocalDate value = toLocalDate(text);
+        return value != null ? value : LocalDate.parse(text, DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+
+    static LocalDateTime parseLocalDateTime(String text) {
+        LocalDateTime value = toLocalDateTime(text);
+        return value != null ? value : LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    /**
+     * @return the date of a text in the form yyyy-MM-dd, or null when it must be parsed by the formatter.
+     */
+    static LocalDate toLocalDate(String text) {
+        return text.length() == DATE_LENGTH ? readDate(text) : null;
+    }
+
+    /**
+     * @return the date time of a text in the form yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]], or null when it must be parsed by
+     * the formatter.
+     */
+    static LocalDateTime toLocalDateTime(String text) {
+        int length = text.length();
+
+        if (length < MINUTE_LENGTH || text.charAt(DATE_LENGTH) != 'T' || text.charAt(DATE_LENGTH + 3) != ':') {
+            return null;
+        }
+
+        LocalDate date = readDate(text);
+        int hour = readNumber(text, DATE_LENGTH + 1, 2);
+        int minute = readNumber(text, DATE_LENGTH + 4, 2);
+        int second = 0;
+        int nano = 0;
+
+        if (length > MINUTE_LENGTH) {
+            if (length < SECOND_LENGTH || text.charAt(MINUTE_LENGTH) != ':') {
+                return null;
+            }
+
+            second = readNumber(text, MINUTE_LENGTH + 1, 2);
+        }
+
+        if (length > SECOND_LENGTH) {
+            int digits = length - SECOND_LENGTH - 1;
+
+            if (text.charAt(SECOND_LENGTH) != '.' || digits == 0 || digits > MAX_FRACTION_DIGITS) {
+                return null;
+            }
+
+            int fraction = readNumber(text, SECOND_LENGTH + 1, digits);
+            nano = fraction < 0 ? -1 : fraction * NANO_SCALES[digits];
+        }
+
+        if (date == null || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59
+            || nano < 0) {
+            return null;
+        }
+
+        return LocalDateTime.of(date, LocalTime.of(hour, minute, second, nano));
+    }
+
+    private static LocalDate readDate(String text) {
+        if (text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+
+        int year = readNumber(text, 0, 4);
+        int month = readNumber(text, 5, 2);
+        int day = readNumber(text, 8, 2);
+
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * @return the value of the digits, or -1 when a char isn't an ASCII digit.
+     */
+    private static int readNumber(String text, int offset, int digits) {
+        int value = 0;
+
+        for (int i = offset; i < offset + digits; i++) {
+            int digit = text.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+
+}
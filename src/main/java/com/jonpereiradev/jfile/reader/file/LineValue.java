@@ -24,6 +24,10 @@
 package com.jonpereiradev.jfile.reader.file;
 
 
+import com.jonpereiradev.jfile.reader.JFilePatternConfig;
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokens;
+
+import java.nio.file.Path;
 import java.util.SortedSet;
 
 
@@ -33,16 +37,100 @@ import java.util.SortedSet;
  */
 public interface LineValue extends Comparable<LineValue> {
 
-    static LineValueImpl newLineValue(int lineNumber, String content, SortedSet<ColumnValue> columnValues) {
+    static LineValueImpl newLineValue(long lineNumber, String content, SortedSet<ColumnValue> columnValues) {
         return new LineValueImpl(lineNumber, content, columnValues);
     }
 
-    int getLineNumber();
+    /**
+     * Creates a line that keeps the offsets of the tokens and only creates the columns when they are requested.
+     *
+     * @param patternConfig the config with the patterns of the column values.
+     * @param lineNumber the number of the line in the file.
+     * @param offset the byte position of the file where the line starts, or -1 when it isn't known.
+     * @param content the content of the line.
+     * @param lineTokens the offsets of the columns, copied to the line value.
+     *
+     * @return the line value backed by the tokens.
+     */
+    static LineValue newLineValue(
+        JFilePatternConfig patternConfig,
+        long lineNumber,
+        long offset,
+        String content,
+        LineTokens lineTokens) {
+        return new TokenizedLineValue(
+            patternConfig,
+            lineNumber,
+            offset,
+            content,
+            lineTokens.getText(),
+            lineTokens.toOffsetArray(),
+            lineTokens.isTrimmed()
+        );
+    }
+
+    /**
+     * Creates a line that is refilled with the content of each line read, so iterating the file doesn't allocate a line
+     * value and its columns per line.
+     *
+     * @param patternConfig the config with the patterns of the column values.
+     *
+     * @return the reusable line value.
+     */
+    static ReusableLineValue newReusableLineValue(JFilePatternConfig patternConfig) {
+        return new ReusableLineValueImpl(patternConfig);
+    }
+
+    /**
+     * Tags a line with the file it came from. The line must remain valid after the reader moves to the next line, like
+     * the {@link #copy()} of a reusable line.
+     *
+     * @param source the path of the file that contains the line.
+     * @param lineValue the line read from the file.
+     *
+     * @return the line tagged with the file.
+     */
+    static SourceLineValue newSourceLineValue(Path source, LineValue lineValue) {
+        return new SourceLineValueImpl(source, lineValue);
+    }
+
+    /**
+     * @return the number of the line in the file, a long since 0.9.0 so files with more than {@link Integer#MAX_VALUE}
+     * lines are supported. Implementations of 0.8.0 returning an int must be changed to return a long.
+     */
+    long getLineNumber();
+
+    /**
+     * @return the byte position of the file where the line starts, or -1 when the reader doesn't track the byte
+     * position of the lines, like a reader of a charset with multi-byte line terminators.
+     */
+    default long getOffset() {
+        return -1;
+    }
 
     String getContent();
 
+    /**
+     * @param columnNumber the number of the column starting at 1.
+     *
+     * @return true if the line has a column with the number.
+     */
+    default boolean hasColumnValue(int columnNumber) {
+        return getColumnValue(columnNumber) != null;
+    }
+
     ColumnValue getColumnValue(int columnNumber);
 
     SortedSet<ColumnValue> getColumnValues();
 
+    /**
+     * Creates a copy of the line that remains valid after the reader moves to the next line. Immutable lines return
+     * themselves.
+     *
+     * @return the line value that can be kept after the iteration.
+     */
+    default LineValue copy() {
+        return this;
+    }
+
 }
@@ -38,11 +38,11 @@ final class LineValueImpl implements LineValue {
 
     private final Map<Integer, ColumnValue> columnsByPosition = new HashMap<>();
 
-    private final int lineNumber;
+    private final long lineNumber;
     private final String content;
     private final SortedSet<ColumnValue> columnValues;
 
-    LineValueImpl(int lineNumber, String content, SortedSet<ColumnValue> columnValues) {
+    LineValueImpl(long lineNumber, String content, SortedSet<ColumnValue> columnValues) {
         this.lineNumber = lineNumber;
         this.content = content;
         this.columnValues = Collections.unmodifiableSortedSet(columnValues);
@@ -50,7 +50,7 @@ final class LineValueImpl implements LineValue {
 
     @Override
     public int compareTo(LineValue o) {
-        return Integer.compare(lineNumber, o.getLineNumber());
+        return Long.compare(lineNumber, o.getLineNumber());
     }
 
     @Override
@@ -72,15 +72,29 @@ final class LineValueImpl implements LineValue {
     }
 
     @Override
-    public int getLineNumber() {
+    public long getLineNumber() {
         return lineNumber;
     }
 
+    @Override
+    public long getOffset() {
+        return -1;
+    }
+
     @Override
     public String getContent() {
         return content;
     }
 
+    @Override
+    public boolean hasColumnValue(int columnNumber) {
+        if (columnsByPosition.containsKey(columnNumber)) {
+            return true;
+        }
+
+        return getColumnValues().stream().anyMatch(o -> o.getColumnNumber() == columnNumber);
+    }
+
     @Override
     public ColumnValue getColumnValue(int columnNumber) {
         if (!columnsByPosition.containsKey(columnNumber)) {
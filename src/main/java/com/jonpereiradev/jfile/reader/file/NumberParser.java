@@ -0,0 +1,318 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.file;
+
+
+/**
+ * <p>Parses the numbers of a column reading its chars directly. The common plain decimal numbers are parsed without
+ * allocating, and any other text, like an exponent, a number that may overflow or an invalid number, is delegated to
+ * the parse methods of the JDK, so the results and the errors are the same of them.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class NumberParser {
+
+    /**
+     * Digits that always fit an int or a long without checking the overflow.
+     */
+    private static final int SAFE_INT_DIGITS = 9;
+    private static final int SAFE_LONG_DIGITS = 18;
+
+    /**
+     * Digits of a mantissa and of a fraction exactly represented by a double, so a single division is correctly
+     * rounded.
+     */
+    private static final int EXACT_DOUBLE_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private NumberParser() {
+        throw new UnsupportedOperationException("Instantiation not supported");
+    }
+
+    static int parseInt(String text) {
+        int length = text.length();
+        int index = signLength(text);
+
+        if (index == length || length - index > SAFE_INT_DIGITS) {
+            return Integer.parseInt(text);
+        }
+
+        int value = 0;
+
+        for (int i = index; i < length; i++) {
+            int digit = text.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9) {
+                return Integer.parseInt(text);
+            }
+
+            value = value * 10 + digit;
+        }
+
+        return text.charAt(0) == '-' ? -value : value;
+    }
+
+    static long parseLong(String text) {
+        int length = text.length();
+        int index = signLength(text);
+
+        if (index == length || length - index > SAFE_LONG_DIGITS) {
+            return Long.parseLong(text);
+        }
+
+        long value = 0;
+
+        for (int i = index; i < length; i++) {
+            int digit = text.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9) {
+                return Long.parseLong(text);
+            }
+
+            value = value * 10 + digit;
+        }
+
+        return text.charAt(0) == '-' ? -value : value;
+    }
+
+    static double parseDouble(String text) {
+        int length = text.length();
+        int index = signLength(text);
+        int digits = 0;
+        int fractionDigits = -1;
+        long mantissa = 0;
+
+        for (int i = index; i < length; i++) {
+            char value = text.charAt(i);
+
+            if (value == '.' && fractionDigits == -1) {
+                fractionDigits = 0;
+            } else if (value >= '0' && value <= '9' && digits < EXACT_DOUBLE_DIGITS) {
+                mantissa = mantissa * 10 + (value - '0');
+                digits++;
+                fractionDigits += fractionDigits == -1 ? 0 : 1;
+            } else {
+                return Double.parseDouble(text);
+            }
+        }
+
+        if (digits == 0) {
+            return Double.parseDouble(text);
+        }
+
+        double result = mantissa / POWERS_OF_TEN[Math.max(fractionDigits, 0)];
+        return text.charAt(0) == '-' ? -result : result;
+    }
+
+    /**
+     * Checks the text like {@link Long#parseLong(String)} does, without throwing an exception.
+     *
+     * @return true if the text is an integer between min and max.
+     */
+    static boolean isInteger(String text, long min, long max) {
+        int length = text.length();
+        int index = signLength(text);
+        boolean negative = index == 1 && text.charAt(0) == '-';
+        long limit = negative ? min : -max;
+        long result = 0;
+
+        if (index == length) {
+            return false;
+        }
+
+        // accumulates negatively, like the JDK, since the negative range is bigger than the positive range
+        for (int i = index; i < length; i++) {
+            int digit = Character.digit(text.charAt(i), 10);
+
+            if (digit < 0 || result < limit / 10) {
+                return false;
+            }
+
+            result *= 10;
+
+            if (result < limit + digit) {
+                return false;
+            }
+
+            result -= digit;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks the text like {@link java.math.BigInteger#BigInteger(String)} does, without throwing an exception.
+     *
+     * @return true if the text is an integer of any size.
+     */
+    static boolean isBigInteger(String text) {
+        int length = text.length();
+        int index = signLength(text);
+
+        if (index == length) {
+            return false;
+        }
+
+        for (int i = index; i < length; i++) {
+            if (Character.digit(text.charAt(i), 10) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks the text like {@link Double#parseDouble(String)} does, without throwing an exception. The text may have
+     * an exponent, a type suffix, be hexadecimal, NaN or Infinity.
+     *
+     * @return true if the text is a floating-point number.
+     */
+    static boolean isDecimal(String text) {
+        int start = 0;
+        int end = text.length();
+
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        if (start == end) {
+            return false;
+        }
+
+        int index = start + (text.charAt(start) == '-' || text.charAt(start) == '+' ? 1 : 0);
+
+        if (text.startsWith("NaN", index)) {
+            return index + 3 == end;
+        }
+
+        if (text.startsWith("Infinity", index)) {
+            return index + 8 == end;
+        }
+
+        if (isTypeSuffix(text.charAt(end - 1))) {
+            end--;
+        }
+
+        boolean hexadecimal = index + 1 < end
+            && text.charAt(index) == '0'
+            && (text.charAt(index + 1) == 'x' || text.charAt(index + 1) == 'X');
+
+        if (hexadecimal) {
+            return isHexadecimal(text, index + 2, end);
+        }
+
+        int digits = 0;
+
+        while (index < end && isDigit(text.charAt(index))) {
+            index++;
+            digits++;
+        }
+
+        if (index < end && text.charAt(index) == '.') {
+            index++;
+
+            while (index < end && isDigit(text.charAt(index))) {
+                index++;
+                digits++;
+            }
+        }
+
+        if (digits == 0) {
+            return false;
+        }
+
+        if (index < end && (text.charAt(index) == 'e' || text.charAt(index) == 'E')) {
+            return isExponent(text, index + 1, end);
+        }
+
+        return index == end;
+    }
+
+    private static boolean isHexadecimal(String text, int index, int end) {
+        int digits = 0;
+
+        while (index < end && Character.digit(text.charAt(index), 16) >= 0 && text.charAt(index) < 128) {
+            index++;
+            digits++;
+        }
+
+        if (index < end && text.charAt(index) == '.') {
+            index++;
+
+            while (index < end && Character.digit(text.charAt(index), 16) >= 0 && text.charAt(index) < 128) {
+                index++;
+                digits++;
+            }
+        }
+
+        // the binary exponent is required by hexadecimal numbers
+        return digits > 0 && index < end && (text.charAt(index) == 'p' || text.charAt(index) == 'P')
+            && isExponent(text, index + 1, end);
+    }
+
+    private static boolean isExponent(String text, int index, int end) {
+        if (index < end && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+            index++;
+        }
+
+        if (index == end) {
+            return false;
+        }
+
+        for (int i = index; i < end; i++) {
+            if (!isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isDigit(char value) {
+        return value >= '0' && value <= '9';
+    }
+
+    private static boolean isTypeSuffix(char value) {
+        return value == 'f' || value == 'F' || value == 'd' || value == 'D';
+    }
+
+    private static int signLength(String text) {
+        if (text.isEmpty()) {
+            return 0;
+        }
+
+        char first = text.charAt(0);
+        return first == '-' || first == '+' ? 1 : 0;
+    }
+
+}
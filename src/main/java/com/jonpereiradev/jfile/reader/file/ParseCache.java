@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.file;
+
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * <p>Cache of the values parsed from the texts of the columns, like the dates and amounts repeated along the lines of
+ * a file, shared by the columns of all lines and threads reading with the same config.</p>
+ *
+ * <p>The values are kept by the identity of the formatter that parsed them and the text, so a formatter must not be
+ * changed after it parsed values cached. The cache holds up to its maximum size, evicting the least recently used
+ * values, and a big cache is split in segments locked independently, so parallel readers rarely wait on each
+ * other.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+public final class ParseCache {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final int maximumSize;
+    private final Segment[] segments;
+
+    private ParseCache(int maximumSize) {
+        int segmentCount = Math.max(1, Math.min(MAX_SEGMENTS, maximumSize / MIN_SEGMENT_SIZE));
+
+        this.maximumSize = maximumSize;
+        this.segments = new Segment[segmentCount];
+
+        for (int i = 0; i < segmentCount; i++) {
+            int remainder = i < maximumSize % segmentCount ? 1 : 0;
+            segments[i] = new Segment(maximumSize / segmentCount + remainder);
+        }
+    }
+
+    /**
+     * Creates a cache bounded by a maximum number of values.
+     *
+     * @param maximumSize the maximum number of values kept by the cache.
+     *
+     * @return the cache of the parsed values.
+     */
+    public static ParseCache newParseCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size of the parse cache must be greater than zero");
+        }
+
+        return new ParseCache(maximumSize);
+    }
+
+    /**
+     * @return the maximum number of values kept by the cache.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return the value of the text parsed by the format to the type, or null when it isn't cached.
+     */
+    <T> T get(Class<T> type, Object format, String text) {
+        Key key = new Key(format, text);
+        Segment segment = segmentOf(key);
+        Object value;
+
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    void put(Object format, String text, Object value) {
+        Key key = new Key(format, text);
+        Segment segment = segmentOf(key);
+
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+    int size() {
+        int size = 0;
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    private Segment segmentOf(Key key) {
+        int hash = key.hash ^ (key.hash >>> 16);
+        return segments[(hash & Integer.MAX_VALUE) % segments.length];
+    }
+
+    /**
+     * Part of the cache in access order, evicting its eldest value when it exceeds its capacity.
+     */
+    private static final class Segment extends LinkedHashMap<Key, Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            return size() > capacity;
+        }
+
+    }
+
+    /**
+     * Identity of the format with the text parsed by it.
+     */
+    private static final class Key {
+
+        private final Object format;
+        private final String text;
+        private final int hash;
+
+        private Key(Object format, String text) {
+            this.format = format;
+            this.text = text;
+            this.hash = 31 * System.identityHashCode(format) + text.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return format == key.format && text.equals(key.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
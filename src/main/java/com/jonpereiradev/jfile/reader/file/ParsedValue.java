@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.file;
+
+
+import com.jonpereiradev.jfile.reader.validator.rule.RuleUtils;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+
+/**
+ * <p>Result of parsing a column without throwing an exception, which is either the parsed value, an empty column or a
+ * column that can't be parsed to the type. The empty and invalid results are shared instances, so a file with many
+ * invalid values doesn't pay for building exceptions and their stack traces.</p>
+ *
+ * @param <T> the type of the parsed value.
+ *
+ * @author jonpereiradev
+ * @see ColumnValue#tryParse(Class)
+ * @since 0.9.0
+ */
+public final class ParsedValue<T> {
+
+    private static final ParsedValue<?> EMPTY = new ParsedValue<>(null, false);
+    private static final ParsedValue<?> INVALID = new ParsedValue<>(null, true);
+
+    private final T value;
+    private final boolean invalid;
+
+    private ParsedValue(T value, boolean invalid) {
+        this.value = value;
+        this.invalid = invalid;
+    }
+
+    /**
+     * @param value the value parsed from the column.
+     * @param <T> the type of the parsed value.
+     *
+     * @return the result with the value.
+     */
+    public static <T> ParsedValue<T> of(T value) {
+        return new ParsedValue<>(Objects.requireNonNull(value, "Value is required"), false);
+    }
+
+    /**
+     * @param <T> the type of the parsed value.
+     *
+     * @return the result of an empty column.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ParsedValue<T> empty() {
+        return (ParsedValue<T>) EMPTY;
+    }
+
+    /**
+     * @param <T> the type of the parsed value.
+     *
+     * @return the result of a column that can't be parsed to the type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ParsedValue<T> invalid() {
+        return (ParsedValue<T>) INVALID;
+    }
+
+    /**
+     * Parses the column with a getter that throws an exception when the column isn't parsable, used by the default
+     * methods of {@link ColumnValue}.
+     */
+    static <T> ParsedValue<T> fromGetter(String text, Supplier<T> getter) {
+        if (RuleUtils.isBlank(text)) {
+            return empty();
+        }
+
+        try {
+            T value = getter.get();
+            return value == null ? empty() : of(value);
+        } catch (RuntimeException e) {
+            return invalid();
+        }
+    }
+
+    /**
+     * @return true if the column was parsed to a value.
+     */
+    public boolean isPresent() {
+        return value != null;
+    }
+
+    /**
+     * @return true if the column is empty.
+     */
+    public boolean isEmpty() {
+        return value == null && !invalid;
+    }
+
+    /**
+     * @return true if the column isn't empty and can't be parsed to the type.
+     */
+    public boolean isInvalid() {
+        return invalid;
+    }
+
+    /**
+     * @return the parsed value.
+     *
+     * @throws NoSuchElementException if the column is empty or invalid.
+     */
+    public T get() {
+        if (value == null) {
+            throw new NoSuchElementException(invalid ? "The column is not parsable" : "The column is empty");
+        }
+
+        return value;
+    }
+
+    /**
+     * @param other the value returned when the column is empty or invalid.
+     *
+     * @return the parsed value or the other value.
+     */
+    public T orElse(T other) {
+        return value == null ? other : value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ParsedValue<?> that = (ParsedValue<?>) o;
+        return invalid == that.invalid && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, invalid);
+    }
+
+    @Override
+    public String toString() {
+        return value != null ? "ParsedValue[" + value + "]" : invalid ? "ParsedValue.invalid" : "ParsedValue.empty";
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.file;
+
+
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokens;
+
+
+/**
+ * <p>Mutable line that is refilled with each line read by the reader instead of allocating new line and column
+ * values.</p>
+ *
+ * <p>A line and its columns are only valid until the reader moves to the next line. Use {@link #copy()} to keep a
+ * line after that.</p>
+ *
+ * @author jonpereiradev
+ * @see com.jonpereiradev.jfile.reader.JFileReaderConfig#reusableLineValue(boolean)
+ * @since 0.9.0
+ */
+public interface ReusableLineValue extends LineValue {
+
+    /**
+     * Refills the line with a new content. The tokens are referenced, not copied, and must not change until the next
+     * refill.
+     *
+     * @param lineNumber the number of the line in the file.
+     * @param offset the byte position of the file where the line starts, or -1 when it isn't known.
+     * @param content the content of the line.
+     * @param lineTokens the offsets of the columns.
+     */
+    void refill(long lineNumber, long offset, String content, LineTokens lineTokens);
+
+}
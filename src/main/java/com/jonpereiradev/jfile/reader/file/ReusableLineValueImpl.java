@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.file;
+
+
+import com.jonpereiradev.jfile.reader.JFilePatternConfig;
+import com.jonpereiradev.jfile.reader.tokenizer.LineTokens;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SortedSet;
+
+
+final class ReusableLineValueImpl implements ReusableLineValue, IndexedLineValue {
+
+    private static final String POSITION_ERROR = "Position doesn't exists in line.";
+
+    private final JFilePatternConfig patternConfig;
+    private final SortedSet<ColumnValue> columnValueSet;
+
+    private long lineNumber;
+    private long offset;
+    private String content;
+    private LineTokens lineTokens;
+
+    private int generation;
+    private int[] columnGenerations = new int[0];
+    private ColumnValueImpl[] columnValues = new ColumnValueImpl[0];
+
+    ReusableLineValueImpl(JFilePatternConfig patternConfig) {
+        this.patternConfig = patternConfig;
+        this.columnValueSet = new ColumnValueSet(this);
+    }
+
+    @Override
+    public void refill(long lineNumber, long offset, String content, LineTokens lineTokens) {
+        this.lineNumber = lineNumber;
+        this.offset = offset;
+        this.content = content;
+        this.lineTokens = lineTokens;
+        this.generation++;
+
+        if (lineTokens.size() > columnValues.length) {
+            columnValues = Arrays.copyOf(columnValues, lineTokens.size());
+            columnGenerations = Arrays.copyOf(columnGenerations, lineTokens.size());
+        }
+    }
+
+    @Override
+    public int compareTo(LineValue o) {
+        return Long.compare(lineNumber, o.getLineNumber());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lineNumber);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReusableLineValueImpl lineValue = (ReusableLineValueImpl) o;
+        return lineNumber == lineValue.lineNumber;
+    }
+
+    @Override
+    public String toString() {
+        return "[lineNumber=" + lineNumber + ", content=" + content + "]";
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public String getContent() {
+        return content;
+    }
+
+    @Override
+    public boolean hasColumnValue(int columnNumber) {
+        return columnNumber >= 1 && columnNumber <= getColumnCount();
+    }
+
+    @Override
+    public ColumnValue getColumnValue(int columnNumber) {
+        if (!hasColumnValue(columnNumber)) {
+            throw new IllegalArgumentException(POSITION_ERROR);
+        }
+
+        int index = columnNumber - 1;
+
+        if (columnGenerations[index] != generation) {
+            int start = lineTokens.getStart(index);
+            int end = lineTokens.getEnd(index);
+            String text = lineTokens.getText();
+            String columnText = TokenizedLineValue.columnText(text, start, end, lineTokens.isTrimmed());
+
+            if (columnValues[index] == null) {
+                columnValues[index] = ColumnValueImpl.newSlicedColumnValue(patternConfig, columnNumber, columnText);
+            } else {
+                columnValues[index].reset(columnNumber, columnText);
+            }
+
+            columnGenerations[index] = generation;
+        }
+
+        return columnValues[index];
+    }
+
+    @Override
+    public SortedSet<ColumnValue> getColumnValues() {
+        return columnValueSet;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return lineTokens == null ? 0 : lineTokens.size();
+    }
+
+    @Override
+    public LineValue copy() {
+        return LineValue.newLineValue(patternConfig, lineNumber, offset, content, lineTokens);
+    }
+
+}
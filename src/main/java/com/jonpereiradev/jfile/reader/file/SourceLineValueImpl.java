@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.file;
+
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.SortedSet;
+
+
+/**
+ * Delegates to the line read from a file, adding the path of the file.
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class SourceLineValueImpl implements SourceLineValue {
+
+    private final Path source;
+    private final LineValue lineValue;
+
+    SourceLineValueImpl(Path source, LineValue lineValue) {
+        this.source = source;
+        this.lineValue = lineValue;
+    }
+
+    @Override
+    public int compareTo(LineValue o) {
+        return lineValue.compareTo(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, lineValue.getLineNumber());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SourceLineValueImpl that = (SourceLineValueImpl) o;
+        return source.equals(that.source) && lineValue.getLineNumber() == that.lineValue.getLineNumber();
+    }
+
+    @Override
+    public String toString() {
+        return "[source=" + source + ", lineNumber=" + getLineNumber() + ", content=" + getContent() + "]";
+    }
+
+    @Override
+    public Path getSource() {
+        return source;
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineValue.getLineNumber();
+    }
+
+    @Override
+    public long getOffset() {
+        return lineValue.getOffset();
+    }
+
+    @Override
+    public String getContent() {
+        return lineValue.getContent();
+    }
+
+    @Override
+    public boolean hasColumnValue(int columnNumber) {
+        return lineValue.hasColumnValue(columnNumber);
+    }
+
+    @Override
+    public ColumnValue getColumnValue(int columnNumber) {
+        return lineValue.getColumnValue(columnNumber);
+    }
+
+    @Override
+    public SortedSet<ColumnValue> getColumnValues() {
+        return lineValue.getColumnValues();
+    }
+
+}
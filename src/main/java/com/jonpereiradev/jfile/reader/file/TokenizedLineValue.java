@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.file;
+
+
+import com.jonpereiradev.jfile.reader.JFilePatternConfig;
+
+import java.util.Objects;
+import java.util.SortedSet;
+
+
+/**
+ * <p>Line backed by the text of the line and the offsets of its columns.</p>
+ *
+ * <p>The {@link ColumnValue} of a column and its content are only created when the column is requested for the first
+ * time, so reading a few columns of a wide line doesn't pay for the others.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class TokenizedLineValue implements IndexedLineValue {
+
+    private static final String POSITION_ERROR = "Position doesn't exists in line.";
+
+    private final JFilePatternConfig patternConfig;
+    private final long lineNumber;
+    private final long offset;
+    private final String content;
+    private final String text;
+    private final int[] offsets;
+    private final boolean trimmed;
+
+    private ColumnValue[] columnValues;
+    private SortedSet<ColumnValue> columnValueSet;
+
+    TokenizedLineValue(
+        JFilePatternConfig patternConfig,
+        long lineNumber,
+        long offset,
+        String content,
+        String text,
+        int[] offsets,
+        boolean trimmed) {
+        this.patternConfig = patternConfig;
+        this.lineNumber = lineNumber;
+        this.offset = offset;
+        this.content = content;
+        this.text = text;
+        this.offsets = offsets;
+        this.trimmed = trimmed;
+    }
+
+    @Override
+    public int compareTo(LineValue o) {
+        return Long.compare(lineNumber, o.getLineNumber());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lineNumber);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TokenizedLineValue lineValue = (TokenizedLineValue) o;
+        return lineNumber == lineValue.lineNumber;
+    }
+
+    @Override
+    public String toString() {
+        return "[lineNumber=" + lineNumber + ", content=" + content + "]";
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public String getContent() {
+        return content;
+    }
+
+    @Override
+    public boolean hasColumnValue(int columnNumber) {
+        return columnNumber >= 1 && columnNumber <= getColumnCount();
+    }
+
+    @Override
+    public ColumnValue getColumnValue(int columnNumber) {
+        if (!hasColumnValue(columnNumber)) {
+            throw new IllegalArgumentException(POSITION_ERROR);
+        }
+
+        if (columnValues == null) {
+            columnValues = new ColumnValue[getColumnCount()];
+        }
+
+        int index = columnNumber - 1;
+
+        if (columnValues[index] == null) {
+            String columnText = columnText(text, offsets[index * 2], offsets[index * 2 + 1], trimmed);
+            columnValues[index] = ColumnValueImpl.newSlicedColumnValue(patternConfig, columnNumber, columnText);
+        }
+
+        return columnValues[index];
+    }
+
+    @Override
+    public SortedSet<ColumnValue> getColumnValues() {
+        if (columnValueSet == null) {
+            columnValueSet = new ColumnValueSet(this);
+        }
+
+        return columnValueSet;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return offsets.length / 2;
+    }
+
+    static String columnText(String text, int start, int end, boolean trimmed) {
+        return trimmed ? trimmedText(text, start, end) : text.substring(start, end);
+    }
+
+    static String trimmedText(String text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        return text.substring(start, end);
+    }
+
+}
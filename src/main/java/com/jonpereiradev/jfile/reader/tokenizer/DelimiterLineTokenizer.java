@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.tokenizer;
+
+
+final class DelimiterLineTokenizer implements LineTokenizer {
+
+    private final String delimiter;
+    private final char delimiterChar;
+    private final boolean singleChar;
+    private final int columnLimit;
+
+    DelimiterLineTokenizer(String delimiter) {
+        this(delimiter, Integer.MAX_VALUE);
+    }
+
+    private DelimiterLineTokenizer(String delimiter, int columnLimit) {
+        if (delimiter.isEmpty()) {
+            throw new IllegalArgumentException("Delimiter must not be empty");
+        }
+
+        this.delimiter = delimiter;
+        this.delimiterChar = delimiter.charAt(0);
+        this.singleChar = delimiter.length() == 1;
+        this.columnLimit = columnLimit;
+    }
+
+    @Override
+    public void tokenize(String content, LineTokens lineTokens) {
+        int index = 0;
+        int next = indexOfDelimiter(content, 0);
+
+        lineTokens.reset(content);
+
+        if (next == -1) {
+            lineTokens.add(0, content.length());
+            return;
+        }
+
+        while (next != -1) {
+            lineTokens.add(index, next);
+
+            if (lineTokens.size() == columnLimit) {
+                return;
+            }
+
+            index = next + delimiter.length();
+            next = indexOfDelimiter(content, index);
+        }
+
+        lineTokens.add(index, content.length());
+        lineTokens.removeTrailingEmptyColumns();
+    }
+
+    @Override
+    public LineTokenizer limit(int columnCount) {
+        return new DelimiterLineTokenizer(delimiter, validateColumnLimit(columnCount));
+    }
+
+    static int validateColumnLimit(int columnCount) {
+        if (columnCount < 1) {
+            throw new IllegalArgumentException("Column limit must be greater than zero");
+        }
+
+        return columnCount;
+    }
+
+    private int indexOfDelimiter(String content, int fromIndex) {
+        return singleChar ? content.indexOf(delimiterChar, fromIndex) : content.indexOf(delimiter, fromIndex);
+    }
+
+}
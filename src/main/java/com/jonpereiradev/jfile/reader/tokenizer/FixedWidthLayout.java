@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.tokenizer;
+
+
+import com.jonpereiradev.jfile.reader.converter.FileColumn;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
+
+/**
+ * <p>Layout of a fixed-width line, declaring the offset and the length of each column.</p>
+ *
+ * <pre>
+ * FixedWidthLayout layout = FixedWidthLayout.newLayout()
+ *     .column(1, 0, 3)
+ *     .column(2, 3, 20)
+ *     .trimmed(false);
+ * </pre>
+ *
+ * @author jonpereiradev
+ * @see LineTokenizer#newFixedWidthTokenizer(FixedWidthLayout)
+ * @since 0.9.0
+ */
+public final class FixedWidthLayout {
+
+    private int[] starts = new int[0];
+    private int[] lengths = new int[0];
+    private boolean trimmed = true;
+
+    private FixedWidthLayout() {
+    }
+
+    /**
+     * @return an empty layout to declare the columns.
+     */
+    public static FixedWidthLayout newLayout() {
+        return new FixedWidthLayout();
+    }
+
+    /**
+     * Creates a layout with the columns declared by the {@link FileColumn#start()} and {@link FileColumn#length()} of
+     * the fields of the class.
+     *
+     * @param clazz the class with the {@link FileColumn} fields.
+     *
+     * @return the layout of the class.
+     */
+    public static FixedWidthLayout newLayout(Class<?> clazz) {
+        FixedWidthLayout layout = newLayout();
+
+        for (Field field : clazz.getDeclaredFields()) {
+            FileColumn fileColumn = field.getAnnotation(FileColumn.class);
+
+            if (fileColumn != null && fileColumn.start() >= 0) {
+                layout.column(fileColumn.value(), fileColumn.start(), fileColumn.length());
+            }
+        }
+
+        if (layout.getColumnCount() == 0) {
+            throw new IllegalArgumentException("No FileColumn with start and length declared in " + clazz.getName());
+        }
+
+        return layout;
+    }
+
+    /**
+     * Declares the position of a column. Columns not declared until the last column number are empty.
+     *
+     * @param columnNumber the number of the column, starting at 1.
+     * @param start the zero-based offset of the first character of the column.
+     * @param length the number of characters of the column.
+     *
+     * @return the layout with the column declared.
+     */
+    public FixedWidthLayout column(int columnNumber, int start, int length) {
+        if (columnNumber < 1 || start < 0 || length < 1) {
+            throw new IllegalArgumentException("Invalid column " + columnNumber + " at " + start + " with " + length);
+        }
+
+        if (columnNumber > starts.length) {
+            starts = Arrays.copyOf(starts, columnNumber);
+            lengths = Arrays.copyOf(lengths, columnNumber);
+        }
+
+        starts[columnNumber - 1] = start;
+        lengths[columnNumber - 1] = length;
+        return this;
+    }
+
+    /**
+     * Defines if the blank characters around the columns are removed when a column is requested. The default is true.
+     *
+     * @param trimmed false to keep the padding of the columns.
+     *
+     * @return the layout with the trimming configured.
+     */
+    public FixedWidthLayout trimmed(boolean trimmed) {
+        this.trimmed = trimmed;
+        return this;
+    }
+
+    /**
+     * @return true if the blank characters around the columns are removed.
+     */
+    public boolean isTrimmed() {
+        return trimmed;
+    }
+
+    /**
+     * @return the number of the last column declared.
+     */
+    public int getColumnCount() {
+        return starts.length;
+    }
+
+    /**
+     * @param columnNumber the number of the column, starting at 1.
+     *
+     * @return the zero-based offset of the first character of the column.
+     */
+    public int getStart(int columnNumber) {
+        return starts[columnNumber - 1];
+    }
+
+    /**
+     * @param columnNumber the number of the column, starting at 1.
+     *
+     * @return the number of characters of the column.
+     */
+    public int getLength(int columnNumber) {
+        return lengths[columnNumber - 1];
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.tokenizer;
+
+
+import java.util.Arrays;
+
+
+/**
+ * Slices the columns at the offsets of a {@link FixedWidthLayout}, without scanning the content. A column past the end
+ * of a shorter line is empty.
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class FixedWidthLineTokenizer implements LineTokenizer {
+
+    private final int[] starts;
+    private final int[] ends;
+    private final boolean trimmed;
+
+    FixedWidthLineTokenizer(FixedWidthLayout layout) {
+        int columnCount = layout.getColumnCount();
+
+        if (columnCount == 0) {
+            throw new IllegalArgumentException("The layout must declare at least one column");
+        }
+
+        this.starts = new int[columnCount];
+        this.ends = new int[columnCount];
+        this.trimmed = layout.isTrimmed();
+
+        for (int i = 0; i < columnCount; i++) {
+            starts[i] = layout.getStart(i + 1);
+            ends[i] = starts[i] + layout.getLength(i + 1);
+        }
+    }
+
+    private FixedWidthLineTokenizer(int[] starts, int[] ends, boolean trimmed) {
+        this.starts = starts;
+        this.ends = ends;
+        this.trimmed = trimmed;
+    }
+
+    @Override
+    public void tokenize(String content, LineTokens lineTokens) {
+        int length = content.length();
+
+        lineTokens.reset(content);
+        lineTokens.setTrimmed(trimmed);
+
+        for (int i = 0; i < starts.length; i++) {
+            lineTokens.add(Math.min(starts[i], length), Math.min(ends[i], length));
+        }
+    }
+
+    @Override
+    public LineTokenizer limit(int columnCount) {
+        int limit = Math.min(starts.length, DelimiterLineTokenizer.validateColumnLimit(columnCount));
+        return new FixedWidthLineTokenizer(Arrays.copyOf(starts, limit), Arrays.copyOf(ends, limit), trimmed);
+    }
+
+}
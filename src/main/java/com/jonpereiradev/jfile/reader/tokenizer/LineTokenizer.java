@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.tokenizer;
+
+
+import java.util.regex.Pattern;
+
+
+/**
+ * <p>Splits the content of a line into columns.</p>
+ *
+ * <p>The tokenizer doesn't create the column values, it only registers the offsets of each column in the
+ * {@link LineTokens}, leaving to the reader the decision of when the column content must be materialized.</p>
+ *
+ * @author jonpereiradev
+ * @see LineTokens
+ * @since 0.9.0
+ */
+public interface LineTokenizer {
+
+    /**
+     * Creates a tokenizer that splits the line with the same semantics of {@link Pattern#split(CharSequence)}.
+     *
+     * @param pattern the pattern used to split a line into columns.
+     *
+     * @return the tokenizer for the regex.
+     */
+    static LineTokenizer newPatternTokenizer(Pattern pattern) {
+        return new PatternLineTokenizer(pattern);
+    }
+
+    /**
+     * Creates a tokenizer that splits the line by a literal delimiter, scanning the content without regex machinery and
+     * with the same semantics of {@link Pattern#split(CharSequence)}.
+     *
+     * @param delimiter the literal text that separates the columns.
+     *
+     * @return the tokenizer for the delimiter.
+     */
+    static LineTokenizer newDelimiterTokenizer(String delimiter) {
+        return new DelimiterLineTokenizer(delimiter);
+    }
+
+    /**
+     * Creates a tokenizer for quoted columns as described by RFC 4180. A quoted column may contain the delimiter and
+     * line breaks, and a quote inside it is escaped by the escape character, which is the quote itself in RFC 4180. The
+     * content is scanned once and only lines with escaped characters are copied to unescape them.
+     *
+     * @param delimiter the literal text that separates the columns.
+     * @param quote the character that encloses a quoted column.
+     * @param escape the character that escapes a quote, or itself, inside a quoted column.
+     *
+     * @return the tokenizer for quoted columns.
+     */
+    static LineTokenizer newQuotedTokenizer(String delimiter, char quote, char escape) {
+        return new QuotedLineTokenizer(delimiter, quote, escape);
+    }
+
+    /**
+     * Creates a tokenizer that slices the columns at the fixed offsets of the layout.
+     *
+     * @param layout the offset and length of each column.
+     *
+     * @return the tokenizer for the layout.
+     */
+    static LineTokenizer newFixedWidthTokenizer(FixedWidthLayout layout) {
+        return new FixedWidthLineTokenizer(layout);
+    }
+
+    /**
+     * Creates a tokenizer that slices each line with the layout of its record type.
+     *
+     * @param layout the layout of each record type.
+     *
+     * @return the tokenizer for the record types.
+     */
+    static LineTokenizer newMultiRecordTokenizer(MultiRecordLayout layout) {
+        return new MultiRecordLineTokenizer(layout);
+    }
+
+    /**
+     * Splits the content into columns registering the offsets of each column.
+     *
+     * @param content the content of the line.
+     * @param lineTokens the tokens that receive the column offsets, reset to the content before tokenization.
+     */
+    void tokenize(String content, LineTokens lineTokens);
+
+    /**
+     * Scans a line that continues a record left inside a quoted column, as reported by
+     * {@link LineTokens#isIncomplete()}, without tokenizing the lines of the record again. Only tokenizers whose
+     * columns may continue on the next line override it.
+     *
+     * @param line the line after the line break, which starts inside the quoted column.
+     *
+     * @return true if the record still ends inside a quoted column after the line.
+     */
+    default boolean isIncompleteAfter(String line) {
+        return false;
+    }
+
+    /**
+     * Creates a tokenizer that stops after a number of columns, without scanning the rest of the line. A line keeps its
+     * trailing empty columns when the content continues after them. Tokenizers that must scan the whole line, like
+     * the quoted tokenizer whose columns may continue on the next line, return themselves.
+     *
+     * @param columnCount the maximum number of columns of a line.
+     *
+     * @return the tokenizer limited to the number of columns.
+     */
+    default LineTokenizer limit(int columnCount) {
+        return this;
+    }
+
+}
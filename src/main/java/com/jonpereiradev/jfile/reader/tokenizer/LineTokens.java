@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.tokenizer;
+
+
+import java.util.Arrays;
+
+
+/**
+ * <p>Reusable holder of the text of a line and the start and end offsets of each column inside it.</p>
+ *
+ * @author jonpereiradev
+ * @see LineTokenizer
+ * @since 0.9.0
+ */
+public final class LineTokens {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String text;
+    private int[] offsets = new int[INITIAL_CAPACITY * 2];
+    private int size;
+    private boolean incomplete;
+    private boolean trimmed;
+
+    /**
+     * Clears the columns and defines the text that the offsets refer to.
+     *
+     * @param text the text of the line.
+     */
+    public void reset(String text) {
+        this.text = text;
+        this.size = 0;
+        this.incomplete = false;
+        this.trimmed = true;
+    }
+
+    /**
+     * Replaces the text and columns with the ones of other tokens, for readers that pass along a line tokenized
+     * elsewhere.
+     *
+     * @param lineTokens the tokens copied.
+     */
+    public void copyFrom(LineTokens lineTokens) {
+        if (offsets.length < lineTokens.size * 2) {
+            offsets = new int[lineTokens.offsets.length];
+        }
+
+        System.arraycopy(lineTokens.offsets, 0, offsets, 0, lineTokens.size * 2);
+
+        this.text = lineTokens.text;
+        this.size = lineTokens.size;
+        this.incomplete = lineTokens.incomplete;
+        this.trimmed = lineTokens.trimmed;
+    }
+
+    /**
+     * Replaces the text that the offsets refer to keeping the columns, for tokenizers that register the columns of an
+     * unescaped copy of the line.
+     *
+     * @param text the text that the offsets refer to.
+     */
+    public void replaceText(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Defines if the line ends inside a quoted column, which continues on the next line.
+     *
+     * @param incomplete true if the last column is not terminated.
+     */
+    public void setIncomplete(boolean incomplete) {
+        this.incomplete = incomplete;
+    }
+
+    /**
+     * Adds a column at the end of the line.
+     *
+     * @param start the offset of the first character of the column.
+     * @param end the offset after the last character of the column.
+     */
+    public void add(int start, int end) {
+        if (size * 2 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+
+        offsets[size * 2] = start;
+        offsets[size * 2 + 1] = end;
+        size++;
+    }
+
+    /**
+     * Removes the empty columns at the end of the line, as {@link java.util.regex.Pattern#split(CharSequence)} does.
+     */
+    public void removeTrailingEmptyColumns() {
+        while (size > 0 && offsets[size * 2 - 2] == offsets[size * 2 - 1]) {
+            size--;
+        }
+    }
+
+    /**
+     * @return the text that the offsets refer to.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Defines if the blank characters around the columns are removed when the columns are materialized. The default is
+     * true.
+     *
+     * @param trimmed false to keep the blank characters of the columns.
+     */
+    public void setTrimmed(boolean trimmed) {
+        this.trimmed = trimmed;
+    }
+
+    /**
+     * @return true if the blank characters around the columns are removed when the columns are materialized.
+     */
+    public boolean isTrimmed() {
+        return trimmed;
+    }
+
+    /**
+     * @return true if the line ends inside a quoted column, which continues on the next line.
+     */
+    public boolean isIncomplete() {
+        return incomplete;
+    }
+
+    /**
+     * @return the number of columns.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the zero-based index of the column.
+     *
+     * @return the offset of the first character of the column.
+     */
+    public int getStart(int index) {
+        return offsets[index * 2];
+    }
+
+    /**
+     * @param index the zero-based index of the column.
+     *
+     * @return the offset after the last character of the column.
+     */
+    public int getEnd(int index) {
+        return offsets[index * 2 + 1];
+    }
+
+    /**
+     * @return a copy of the start and end offsets of all columns, two positions per column.
+     */
+    public int[] toOffsetArray() {
+        return Arrays.copyOf(offsets, size * 2);
+    }
+
+    /**
+     * @param index the zero-based index of the column.
+     *
+     * @return the content of the column.
+     */
+    public String getColumn(int index) {
+        return text.substring(getStart(index), getEnd(index));
+    }
+
+}
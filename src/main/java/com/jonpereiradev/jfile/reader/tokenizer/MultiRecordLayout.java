@@ -0,0 +1,232 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.tokenizer;
+
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * <p>Layout of a positional file that mixes record types, like the FEBRABAN CNAB 240 and CNAB 400 files, where the
+ * characters at the discriminator offsets identify the {@link FixedWidthLayout} of each line.</p>
+ *
+ * <p>The record types are compiled into a lookup table per discriminator offset as they are declared, so the record
+ * type of a line is found by indexing the table with the characters of the line, matching the longest record type
+ * declared.</p>
+ *
+ * <pre>
+ * MultiRecordLayout layout = MultiRecordLayout.newCnab240Layout()
+ *     .record("0", fileHeaderLayout)
+ *     .record("1", batchHeaderLayout)
+ *     .record("3P", segmentPLayout)
+ *     .record("3Q", segmentQLayout)
+ *     .record("5", batchTrailerLayout)
+ *     .record("9", fileTrailerLayout);
+ * </pre>
+ *
+ * @author jonpereiradev
+ * @see LineTokenizer#newMultiRecordTokenizer(MultiRecordLayout)
+ * @since 0.9.0
+ */
+public final class MultiRecordLayout {
+
+    private static final int CNAB_240_RECORD_TYPE_OFFSET = 7;
+    private static final int CNAB_240_SEGMENT_OFFSET = 13;
+    private static final int CNAB_400_RECORD_TYPE_OFFSET = 0;
+
+    private final int[] discriminatorOffsets;
+    private final Map<String, FixedWidthLayout> layouts = new LinkedHashMap<>();
+    private final RecordNode root = new RecordNode();
+
+    private MultiRecordLayout(int[] discriminatorOffsets) {
+        this.discriminatorOffsets = discriminatorOffsets;
+    }
+
+    /**
+     * Creates a layout identifying the record type by the characters at the offsets. The first character of a record
+     * type is compared to the first offset, the second character to the second offset, and so on.
+     *
+     * @param discriminatorOffsets the zero-based offsets of the characters that identify the record type.
+     *
+     * @return an empty layout to declare the record types.
+     */
+    public static MultiRecordLayout newLayout(int... discriminatorOffsets) {
+        if (discriminatorOffsets.length == 0) {
+            throw new IllegalArgumentException("At least one discriminator offset is required");
+        }
+
+        for (int offset : discriminatorOffsets) {
+            if (offset < 0) {
+                throw new IllegalArgumentException("Invalid discriminator offset " + offset);
+            }
+        }
+
+        return new MultiRecordLayout(discriminatorOffsets.clone());
+    }
+
+    /**
+     * Creates a layout for CNAB 240 files, identifying the record type by the position 8 and the segment of the detail
+     * records by the position 14, so the detail segments are declared as {@code 3P}, {@code 3Q}, {@code 3R}...
+     *
+     * @return an empty layout to declare the record types.
+     */
+    public static MultiRecordLayout newCnab240Layout() {
+        return newLayout(CNAB_240_RECORD_TYPE_OFFSET, CNAB_240_SEGMENT_OFFSET);
+    }
+
+    /**
+     * Creates a layout for CNAB 400 files, identifying the record type by the position 1.
+     *
+     * @return an empty layout to declare the record types.
+     */
+    public static MultiRecordLayout newCnab400Layout() {
+        return newLayout(CNAB_400_RECORD_TYPE_OFFSET);
+    }
+
+    /**
+     * Declares the layout of the lines of a record type.
+     *
+     * @param recordType the characters at the discriminator offsets that identify the record type.
+     * @param layout the offset and length of each column of the record type.
+     *
+     * @return the layout with the record type declared.
+     */
+    public MultiRecordLayout record(String recordType, FixedWidthLayout layout) {
+        Objects.requireNonNull(layout, "FixedWidthLayout is required");
+
+        if (recordType.isEmpty() || recordType.length() > discriminatorOffsets.length) {
+            throw new IllegalArgumentException("Record type must have 1 to " + discriminatorOffsets.length + " chars");
+        }
+
+        RecordNode node = root;
+
+        for (int i = 0; i < recordType.length(); i++) {
+            node = node.getOrCreateChild(recordType.charAt(i));
+        }
+
+        node.recordType = recordType;
+        node.lineTokenizer = new FixedWidthLineTokenizer(layout);
+        layouts.put(recordType, layout);
+        return this;
+    }
+
+    /**
+     * @param content the content of the line.
+     *
+     * @return the longest record type declared that matches the line, or null when no record type matches.
+     */
+    public String getRecordType(String content) {
+        RecordNode node = find(content);
+        return node == null ? null : node.recordType;
+    }
+
+    /**
+     * @param recordType the record type declared.
+     *
+     * @return the layout of the record type, or null when the record type is not declared.
+     */
+    public FixedWidthLayout getLayout(String recordType) {
+        return layouts.get(recordType);
+    }
+
+    /**
+     * @return the record types in the order they were declared.
+     */
+    public Iterable<String> getRecordTypes() {
+        return layouts.keySet();
+    }
+
+    LineTokenizer findLineTokenizer(String content) {
+        RecordNode node = find(content);
+        return node == null ? null : node.lineTokenizer;
+    }
+
+    private RecordNode find(String content) {
+        RecordNode node = root;
+        RecordNode match = null;
+
+        for (int i = 0; i < discriminatorOffsets.length && discriminatorOffsets[i] < content.length(); i++) {
+            node = node.getChild(content.charAt(discriminatorOffsets[i]));
+
+            if (node == null) {
+                break;
+            }
+
+            if (node.recordType != null) {
+                match = node;
+            }
+        }
+
+        return match;
+    }
+
+    private static final class RecordNode {
+
+        private static final int TABLE_SIZE = 128;
+
+        private RecordNode[] table;
+        private Map<Character, RecordNode> others;
+        private String recordType;
+        private LineTokenizer lineTokenizer;
+
+        RecordNode getChild(char character) {
+            if (character < TABLE_SIZE) {
+                return table == null ? null : table[character];
+            }
+
+            return others == null ? null : others.get(character);
+        }
+
+        RecordNode getOrCreateChild(char character) {
+            RecordNode child = getChild(character);
+
+            if (child != null) {
+                return child;
+            }
+
+            child = new RecordNode();
+
+            if (character < TABLE_SIZE) {
+                if (table == null) {
+                    table = new RecordNode[TABLE_SIZE];
+                }
+
+                table[character] = child;
+            } else {
+                if (others == null) {
+                    others = new HashMap<>();
+                }
+
+                others.put(character, child);
+            }
+
+            return child;
+        }
+
+    }
+
+}
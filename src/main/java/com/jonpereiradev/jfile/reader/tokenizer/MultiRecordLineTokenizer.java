@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.tokenizer;
+
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Slices each line with the layout of its record type. A line that matches no record type has a single column with the
+ * whole content, as a pattern that doesn't match the line. A limited tokenizer slices only the first columns of each
+ * record type.
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class MultiRecordLineTokenizer implements LineTokenizer {
+
+    private final MultiRecordLayout layout;
+    private final int columnLimit;
+    private final Map<LineTokenizer, LineTokenizer> limitedTokenizers;
+
+    MultiRecordLineTokenizer(MultiRecordLayout layout) {
+        this(layout, Integer.MAX_VALUE);
+    }
+
+    private MultiRecordLineTokenizer(MultiRecordLayout layout, int columnLimit) {
+        this.layout = layout;
+        this.columnLimit = columnLimit;
+        this.limitedTokenizers = columnLimit == Integer.MAX_VALUE ? null : new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void tokenize(String content, LineTokens lineTokens) {
+        LineTokenizer lineTokenizer = layout.findLineTokenizer(content);
+
+        if (lineTokenizer == null) {
+            lineTokens.reset(content);
+            lineTokens.add(0, content.length());
+            return;
+        }
+
+        if (limitedTokenizers != null) {
+            // record types may be declared after the tokenizer is limited, so each one is limited when first found
+            lineTokenizer = limitedTokenizers.computeIfAbsent(lineTokenizer, tokenizer -> tokenizer.limit(columnLimit));
+        }
+
+        lineTokenizer.tokenize(content, lineTokens);
+    }
+
+    @Override
+    public LineTokenizer limit(int columnCount) {
+        return new MultiRecordLineTokenizer(layout, DelimiterLineTokenizer.validateColumnLimit(columnCount));
+    }
+
+}
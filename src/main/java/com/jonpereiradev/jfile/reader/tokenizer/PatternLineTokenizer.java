@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.tokenizer;
+
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+final class PatternLineTokenizer implements LineTokenizer {
+
+    private final Pattern pattern;
+    private final int columnLimit;
+
+    PatternLineTokenizer(Pattern pattern) {
+        this(pattern, Integer.MAX_VALUE);
+    }
+
+    private PatternLineTokenizer(Pattern pattern, int columnLimit) {
+        this.pattern = pattern;
+        this.columnLimit = columnLimit;
+    }
+
+    @Override
+    public void tokenize(String content, LineTokens lineTokens) {
+        Matcher matcher = pattern.matcher(content);
+        boolean matched = false;
+        int index = 0;
+
+        lineTokens.reset(content);
+
+        while (matcher.find()) {
+            if (index == 0 && matcher.start() == 0 && matcher.end() == 0) {
+                continue;
+            }
+
+            lineTokens.add(index, matcher.start());
+
+            if (lineTokens.size() == columnLimit) {
+                return;
+            }
+
+            index = matcher.end();
+            matched = true;
+        }
+
+        lineTokens.add(index, content.length());
+
+        if (matched) {
+            lineTokens.removeTrailingEmptyColumns();
+        }
+    }
+
+    @Override
+    public LineTokenizer limit(int columnCount) {
+        return new PatternLineTokenizer(pattern, DelimiterLineTokenizer.validateColumnLimit(columnCount));
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.tokenizer;
+
+
+/**
+ * <p>Single pass state machine for quoted columns. The offsets of the columns without escaped characters refer to the
+ * content itself, without the quotes. When the first escaped character is found, the content scanned so far is copied
+ * to a buffer that receives the unescaped characters of the rest of the line, and the offsets refer to that
+ * buffer.</p>
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class QuotedLineTokenizer implements LineTokenizer {
+
+    private final String delimiter;
+    private final char delimiterChar;
+    private final boolean singleChar;
+    private final char quote;
+    private final char escape;
+
+    QuotedLineTokenizer(String delimiter, char quote, char escape) {
+        if (delimiter.isEmpty()) {
+            throw new IllegalArgumentException("Delimiter must not be empty");
+        }
+
+        if (delimiter.indexOf(quote) != -1 || delimiter.indexOf(escape) != -1) {
+            throw new IllegalArgumentException("Delimiter must not contain the quote or escape characters");
+        }
+
+        this.delimiter = delimiter;
+        this.delimiterChar = delimiter.charAt(0);
+        this.singleChar = delimiter.length() == 1;
+        this.quote = quote;
+        this.escape = escape;
+    }
+
+    @Override
+    public void tokenize(String content, LineTokens lineTokens) {
+        int length = content.length();
+        int index = 0;
+        StringBuilder unescaped = null;
+
+        lineTokens.reset(content);
+
+        while (true) {
+            int start;
+
+            if (index < length && content.charAt(index) == quote) {
+                start = ++index;
+
+                if (unescaped != null) {
+                    start = unescaped.length();
+                }
+
+                boolean closed = false;
+
+                while (index < length) {
+                    char character = content.charAt(index);
+
+                    if (isEscapeSequence(content, index)) {
+                        if (unescaped == null) {
+                            unescaped = new StringBuilder(length).append(content, 0, index);
+                        }
+
+                        unescaped.append(content.charAt(index + 1));
+                        index += 2;
+                    } else if (character == quote) {
+                        closed = true;
+                        break;
+                    } else {
+                        if (unescaped != null) {
+                            unescaped.append(character);
+                        }
+
+                        index++;
+                    }
+                }
+
+                if (!closed) {
+                    lineTokens.add(start, unescaped == null ? length : unescaped.length());
+                    lineTokens.setIncomplete(true);
+                    break;
+                }
+
+                int quoteIndex = index++;
+
+                if (index < length && !isDelimiter(content, index)) {
+                    // characters after the closing quote belong to the column, which is no longer a content range
+                    if (unescaped == null) {
+                        unescaped = new StringBuilder(length).append(content, 0, quoteIndex);
+                    }
+
+                    while (index < length && !isDelimiter(content, index)) {
+                        unescaped.append(content.charAt(index++));
+                    }
+                }
+
+                lineTokens.add(start, unescaped == null ? quoteIndex : unescaped.length());
+            } else {
+                start = unescaped == null ? index : unescaped.length();
+
+                while (index < length && !isDelimiter(content, index)) {
+                    if (unescaped != null) {
+                        unescaped.append(content.charAt(index));
+                    }
+
+                    index++;
+                }
+
+                lineTokens.add(start, unescaped == null ? index : unescaped.length());
+            }
+
+            if (index == length) {
+                break;
+            }
+
+            index += delimiter.length();
+
+            if (unescaped != null) {
+                unescaped.append(delimiter);
+            }
+        }
+
+        if (unescaped != null) {
+            lineTokens.replaceText(unescaped.toString());
+        }
+
+        if (lineTokens.size() > 1) {
+            lineTokens.removeTrailingEmptyColumns();
+        }
+    }
+
+    @Override
+    public boolean isIncompleteAfter(String line) {
+        int length = line.length();
+        int index = 0;
+        boolean quoted = true;
+
+        while (true) {
+            if (quoted) {
+                while (index < length && (line.charAt(index) != quote || isEscapeSequence(line, index))) {
+                    index += isEscapeSequence(line, index) ? 2 : 1;
+                }
+
+                if (index == length) {
+                    return true;
+                }
+
+                index++;
+            }
+
+            while (index < length && !isDelimiter(line, index)) {
+                index++;
+            }
+
+            if (index == length) {
+                return false;
+            }
+
+            index += delimiter.length();
+            quoted = index < length && line.charAt(index) == quote;
+
+            if (quoted) {
+                index++;
+            }
+        }
+    }
+
+    private boolean isEscapeSequence(String content, int index) {
+        if (content.charAt(index) != escape || index + 1 == content.length()) {
+            return false;
+        }
+
+        char next = content.charAt(index + 1);
+        return next == quote || next == escape;
+    }
+
+    private boolean isDelimiter(String content, int index) {
+        return singleChar ? content.charAt(index) == delimiterChar : content.startsWith(delimiter, index);
+    }
+
+}
@@ -25,6 +25,7 @@ package com.jonpereiradev.jfile.reader.validator;
 
 
 import com.jonpereiradev.jfile.reader.JFilePatternConfig;
+import com.jonpereiradev.jfile.reader.file.ParseCache;
 import com.jonpereiradev.jfile.reader.validator.rule.RuleRoot;
 import com.jonpereiradev.jfile.reader.validator.rule.RuleRootImpl;
 import com.jonpereiradev.jfile.reader.validator.rule.configurator.ColumnRuleConfigurator;
@@ -45,6 +46,7 @@ final class JFileValidatorConfigImpl implements JFileValidatorConfig {
     private DateTimeFormatter localDateFormatter;
     private DateTimeFormatter localDateTimeFormatter;
     private DecimalFormat bigDecimalFormatter;
+    private ParseCache parseCache;
     private int maxViolationSize = -1;
 
     JFileValidatorConfigImpl() {
@@ -62,6 +64,7 @@ final class JFileValidatorConfigImpl implements JFileValidatorConfig {
         this.localDateFormatter = filePatternConfig.getLocalDateFormatter();
         this.localDateTimeFormatter = filePatternConfig.getLocalDateTimeFormatter();
         this.bigDecimalFormatter = filePatternConfig.getBigDecimalFormatter();
+        this.parseCache = filePatternConfig.getParseCache();
         this.ruleRoot = new RuleRootImpl();
         this.ruleConfig = new JFileRuleConfigImpl(this);
     }
@@ -141,4 +144,19 @@ final class JFileValidatorConfigImpl implements JFileValidatorConfig {
         return bigDecimalFormatter;
     }
 
+    @Override
+    public JFileValidatorConfig parseCache(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum size of the parse cache must not be negative");
+        }
+
+        this.parseCache = maximumSize == 0 ? null : ParseCache.newParseCache(maximumSize);
+        return this;
+    }
+
+    @Override
+    public ParseCache getParseCache() {
+        return parseCache;
+    }
+
 }
@@ -37,6 +37,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 
@@ -44,6 +45,8 @@ final class JFileValidatorEngine implements JFileValidator {
 
     private final JFileValidatorConfig validatorConfig;
 
+    private volatile ColumnNumbers columnNumbers = new ColumnNumbers(0, new int[0]);
+
     JFileValidatorEngine(JFileValidatorConfig validatorConfig) {
         this.validatorConfig = validatorConfig;
     }
@@ -53,7 +56,7 @@ final class JFileValidatorEngine implements JFileValidator {
         List<RuleViolation> ruleViolations = validateLine(lineValue);
         ValidationReportImpl validationReport = new ValidationReportImpl();
 
-        validationReport.put(lineValue.getLineNumber(), ruleViolations);
+        validationReport.put(lineValue.getLineNumber(), lineValue.getOffset(), ruleViolations);
 
         return validationReport;
     }
@@ -76,6 +79,7 @@ final class JFileValidatorEngine implements JFileValidator {
                 RuleViolationImpl violation = new RuleViolationImpl();
 
                 violation.setLineNumber(lineValue.getLineNumber());
+                violation.setOffset(lineValue.getOffset());
                 violation.setColumnNumber(-1);
                 violation.setContent(lineValue.getContent());
                 violation.setRule(rule.getClass().getSimpleName());
@@ -85,13 +89,37 @@ final class JFileValidatorEngine implements JFileValidator {
         });
     }
 
+    /**
+     * @return the sorted numbers of the columns that have rules, collected again only when rules are added to the
+     * configuration after the last line validated.
+     */
+    private int[] getColumnNumbers(RuleNode<ColumnRule> columnRootNode) {
+        ColumnNumbers current = columnNumbers;
+        List<ColumnRule> columnRules = columnRootNode.getChildren();
+
+        if (current.ruleCount != columnRules.size()) {
+            SortedSet<Integer> numbers = new TreeSet<>();
+            columnRules.forEach(columnRule -> numbers.add(columnRule.getColumnNumber()));
+
+            current = new ColumnNumbers(columnRules.size(), numbers.stream().mapToInt(Integer::intValue).toArray());
+            columnNumbers = current;
+        }
+
+        return current.numbers;
+    }
+
+    /**
+     * Validates only the columns that have rules, so the other columns of the line are never materialized.
+     */
     private void checkColumnRuleViolation(LineValue lineValue, List<RuleViolation> violations) {
-        SortedSet<ColumnValue> columnValues = lineValue.getColumnValues();
+        RuleNode<ColumnRule> columnRootNode = validatorConfig.getRuleRoot().getColumnRootNode();
 
-        columnValues.forEach(columnValue -> {
-            RuleNode<ColumnRule> columnRootNode = validatorConfig.getRuleRoot().getColumnRootNode();
-            violations.addAll(validateColumnRules(lineValue, columnValue, columnRootNode));
-        });
+        for (int columnNumber : getColumnNumbers(columnRootNode)) {
+            if (lineValue.hasColumnValue(columnNumber)) {
+                ColumnValue columnValue = lineValue.getColumnValue(columnNumber);
+                violations.addAll(validateColumnRules(lineValue, columnValue, columnRootNode));
+            }
+        }
     }
 
     private List<RuleViolation> validateColumnRules(
@@ -154,6 +182,7 @@ final class JFileValidatorEngine implements JFileValidator {
         RuleViolationImpl violation = new RuleViolationImpl();
 
         violation.setLineNumber(lineValue.getLineNumber());
+        violation.setOffset(lineValue.getOffset());
         violation.setColumnNumber(columnValue.getColumnNumber());
         violation.setContent(columnValue.getText());
         violation.setRule(columnRule.getClass().getName());
@@ -175,4 +204,16 @@ final class JFileValidatorEngine implements JFileValidator {
         return refColumn;
     }
 
+    private static final class ColumnNumbers {
+
+        private final int ruleCount;
+        private final int[] numbers;
+
+        private ColumnNumbers(int ruleCount, int[] numbers) {
+            this.ruleCount = ruleCount;
+            this.numbers = numbers;
+        }
+
+    }
+
 }
@@ -25,6 +25,11 @@ package com.jonpereiradev.jfile.reader.validator;
 
 
 import com.jonpereiradev.jfile.reader.JFilePatternConfig;
+import com.jonpereiradev.jfile.reader.tokenizer.MultiRecordLayout;
+import com.jonpereiradev.jfile.reader.validator.rule.line.LineRecordTypeRule;
+
+import java.util.Map;
+import java.util.Objects;
 
 
 /**
@@ -47,6 +52,24 @@ public final class JFileValidatorFactory {
         return new JFileValidatorEngine(validatorConfig);
     }
 
+    /**
+     * Create a File Validator for files with many record types, validating each line with the config of its record
+     * type. The validator of each record type is created once, and a line that matches no record type of the layout is
+     * reported as a {@link LineRecordTypeRule} violation.
+     *
+     * @param layout the layout that identifies the record type of each line.
+     * @param validatorConfigs the config of each record type, record types without a config have no rules.
+     *
+     * @return an instance of JFileValidator for the record types.
+     */
+    public static JFileValidator newJFileValidator(
+        MultiRecordLayout layout,
+        Map<String, JFileValidatorConfig> validatorConfigs) {
+        Objects.requireNonNull(layout, "MultiRecordLayout is required");
+        Objects.requireNonNull(validatorConfigs, "Validator configs are required");
+        return new MultiRecordValidatorEngine(layout, validatorConfigs);
+    }
+
     /**
      * Create a File Validator Config to configure the validator engine.
      *
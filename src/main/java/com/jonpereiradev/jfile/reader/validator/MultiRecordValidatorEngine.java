@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.validator;
+
+
+import com.jonpereiradev.jfile.reader.file.LineValue;
+import com.jonpereiradev.jfile.reader.tokenizer.MultiRecordLayout;
+import com.jonpereiradev.jfile.reader.validator.rule.RuleViolation;
+import com.jonpereiradev.jfile.reader.validator.rule.RuleViolationImpl;
+import com.jonpereiradev.jfile.reader.validator.rule.line.LineRecordTypeRule;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Dispatches each line to the validator of its record type.
+ *
+ * @author jonpereiradev
+ * @since 0.9.0
+ */
+final class MultiRecordValidatorEngine implements JFileValidator {
+
+    private final MultiRecordLayout layout;
+    private final Map<String, JFileValidator> validators = new HashMap<>();
+
+    MultiRecordValidatorEngine(MultiRecordLayout layout, Map<String, JFileValidatorConfig> validatorConfigs) {
+        this.layout = layout;
+
+        validatorConfigs.forEach((recordType, validatorConfig) -> {
+            if (layout.getLayout(recordType) == null) {
+                throw new IllegalArgumentException("Record type " + recordType + " is not declared in the layout");
+            }
+
+            validators.put(recordType, new JFileValidatorEngine(validatorConfig));
+        });
+    }
+
+    @Override
+    public ValidationReport validate(LineValue lineValue) {
+        String recordType = layout.getRecordType(lineValue.getContent());
+
+        if (recordType == null) {
+            return newRecordTypeViolation(lineValue);
+        }
+
+        JFileValidator validator = validators.get(recordType);
+
+        if (validator == null) {
+            ValidationReportImpl validationReport = new ValidationReportImpl();
+            validationReport.put(lineValue.getLineNumber(), lineValue.getOffset(), Collections.emptyList());
+            return validationReport;
+        }
+
+        return validator.validate(lineValue);
+    }
+
+    private ValidationReport newRecordTypeViolation(LineValue lineValue) {
+        RuleViolationImpl violation = new RuleViolationImpl();
+
+        violation.setLineNumber(lineValue.getLineNumber());
+        violation.setOffset(lineValue.getOffset());
+        violation.setColumnNumber(-1);
+        violation.setContent(lineValue.getContent());
+        violation.setRule(LineRecordTypeRule.class.getSimpleName());
+
+        ValidationReportImpl validationReport = new ValidationReportImpl();
+        validationReport.put(
+            lineValue.getLineNumber(),
+            lineValue.getOffset(),
+            Collections.<RuleViolation>singletonList(violation)
+        );
+        return validationReport;
+    }
+
+}
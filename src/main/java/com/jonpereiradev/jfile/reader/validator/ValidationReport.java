@@ -42,9 +42,17 @@ public interface ValidationReport {
 
     boolean isNotValid();
 
-    List<RuleViolation> getViolations(int lineNumber);
+    List<RuleViolation> getViolations(long lineNumber);
 
-    List<RuleViolation> getViolations(int lineNumber, int columnNumber);
+    List<RuleViolation> getViolations(long lineNumber, int columnNumber);
+
+    /**
+     * @param lineNumber the number of a line validated by the report.
+     *
+     * @return the byte position of the file where the line starts, to read it again without scanning the file, or -1
+     * when the line isn't in the report or the reader doesn't track the byte position of the lines.
+     */
+    long getOffset(long lineNumber);
 
     List<RuleViolation> getViolations();
 
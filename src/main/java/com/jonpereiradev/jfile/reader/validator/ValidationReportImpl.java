@@ -37,22 +37,14 @@ import java.util.stream.Stream;
 
 final class ValidationReportImpl implements ValidationReport {
 
-    private final Map<Integer, ReportLineValidation> violationsPerRow = new TreeMap<>();
+    private final Map<Long, ReportLineValidation> violationsPerRow = new TreeMap<>();
 
-    void put(int lineNumber, RuleViolation ruleViolation) {
-        if (!violationsPerRow.containsKey(lineNumber)) {
-            violationsPerRow.put(lineNumber, new ReportLineValidation());
-        }
-
-        violationsPerRow.get(lineNumber).add(ruleViolation);
+    void put(long lineNumber, long offset, RuleViolation ruleViolation) {
+        getLineValidation(lineNumber, offset).add(ruleViolation);
     }
 
-    void put(int lineNumber, List<RuleViolation> ruleViolations) {
-        if (!violationsPerRow.containsKey(lineNumber)) {
-            violationsPerRow.put(lineNumber, new ReportLineValidation());
-        }
-
-        violationsPerRow.get(lineNumber).addAll(ruleViolations);
+    void put(long lineNumber, long offset, List<RuleViolation> ruleViolations) {
+        getLineValidation(lineNumber, offset).addAll(ruleViolations);
     }
 
     @Override
@@ -66,7 +58,7 @@ final class ValidationReportImpl implements ValidationReport {
     }
 
     @Override
-    public List<RuleViolation> getViolations(int lineNumber) {
+    public List<RuleViolation> getViolations(long lineNumber) {
         if (violationsPerRow.containsKey(lineNumber)) {
             return Collections.unmodifiableList(violationsPerRow.get(lineNumber).ruleViolations);
         }
@@ -75,7 +67,7 @@ final class ValidationReportImpl implements ValidationReport {
     }
 
     @Override
-    public List<RuleViolation> getViolations(int lineNumber, int columnNumber) {
+    public List<RuleViolation> getViolations(long lineNumber, int columnNumber) {
         if (violationsPerRow.containsKey(lineNumber)) {
             Stream<RuleViolation> stream = violationsPerRow
                 .get(lineNumber)
@@ -89,6 +81,12 @@ final class ValidationReportImpl implements ValidationReport {
         return Collections.emptyList();
     }
 
+    @Override
+    public long getOffset(long lineNumber) {
+        ReportLineValidation lineValidation = violationsPerRow.get(lineNumber);
+        return lineValidation == null ? -1 : lineValidation.offset;
+    }
+
     @Override
     public List<RuleViolation> getViolations() {
         return violationsPerRow
@@ -98,11 +96,17 @@ final class ValidationReportImpl implements ValidationReport {
             .collect(Collectors.toList());
     }
 
+    private ReportLineValidation getLineValidation(long lineNumber, long offset) {
+        return violationsPerRow.computeIfAbsent(lineNumber, o -> new ReportLineValidation(offset));
+    }
+
     private class ReportLineValidation {
 
+        private final long offset;
         private final List<RuleViolation> ruleViolations;
 
-        private ReportLineValidation() {
+        private ReportLineValidation(long offset) {
+            this.offset = offset;
             this.ruleViolations = new ArrayList<>();
         }
 
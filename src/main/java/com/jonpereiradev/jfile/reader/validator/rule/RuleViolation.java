@@ -30,7 +30,13 @@ package com.jonpereiradev.jfile.reader.validator.rule;
  */
 public interface RuleViolation {
 
-    int getLineNumber();
+    long getLineNumber();
+
+    /**
+     * @return the byte position of the file where the line of the violation starts, or -1 when the reader doesn't
+     * track the byte position of the lines.
+     */
+    long getOffset();
 
     int getColumnNumber();
 
@@ -29,7 +29,8 @@ import java.util.Objects;
 
 public final class RuleViolationImpl implements RuleViolation {
 
-    private int lineNumber;
+    private long lineNumber;
+    private long offset = -1;
     private int columnNumber;
     private String content;
     private String rule;
@@ -49,14 +50,22 @@ public final class RuleViolationImpl implements RuleViolation {
             Objects.equals(rule, that.rule);
     }
 
-    public int getLineNumber() {
+    public long getLineNumber() {
         return lineNumber;
     }
 
-    public void setLineNumber(int lineNumber) {
+    public void setLineNumber(long lineNumber) {
         this.lineNumber = lineNumber;
     }
 
+    public long getOffset() {
+        return offset;
+    }
+
+    public void setOffset(long offset) {
+        this.offset = offset;
+    }
+
     public int getColumnNumber() {
         return columnNumber;
     }
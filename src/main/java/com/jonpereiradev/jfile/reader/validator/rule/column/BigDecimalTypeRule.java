@@ -44,11 +44,7 @@ public class BigDecimalTypeRule extends AbstractColumnRule {
 
     @Override
     public boolean isValid(ColumnValue columnValue) {
-        try {
-            return columnValue.getText().isEmpty() || columnValue.getBigDecimal(decimalFormat) != null;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        return columnValue.getText().isEmpty() || columnValue.tryParseBigDecimal(decimalFormat).isPresent();
     }
 
     @Override
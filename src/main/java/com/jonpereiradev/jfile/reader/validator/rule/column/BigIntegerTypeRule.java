@@ -26,6 +26,8 @@ package com.jonpereiradev.jfile.reader.validator.rule.column;
 
 import com.jonpereiradev.jfile.reader.file.ColumnValue;
 
+import java.math.BigInteger;
+
 
 /**
  * @author jonpereiradev
@@ -39,11 +41,7 @@ public class BigIntegerTypeRule extends AbstractColumnRule {
 
     @Override
     public boolean isValid(ColumnValue columnValue) {
-        try {
-            return columnValue.getText().isEmpty() || columnValue.getBigInteger() != null;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        return columnValue.getText().isEmpty() || columnValue.tryParse(BigInteger.class).isPresent();
     }
 
     @Override
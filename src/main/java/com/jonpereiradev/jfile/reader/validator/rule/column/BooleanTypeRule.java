@@ -39,7 +39,7 @@ public class BooleanTypeRule extends AbstractColumnRule {
 
     @Override
     public boolean isValid(ColumnValue columnValue) {
-        return columnValue.getText().isEmpty() || columnValue.getBoolean() != null;
+        return columnValue.getText().isEmpty() || columnValue.tryParse(Boolean.class).isPresent();
     }
 
     @Override
@@ -39,11 +39,7 @@ public class CharacterTypeRule extends AbstractColumnRule {
 
     @Override
     public boolean isValid(ColumnValue columnValue) {
-        try {
-            return columnValue.getText().isEmpty() || columnValue.getCharacter() != null;
-        } catch (IllegalStateException e) {
-            return false;
-        }
+        return columnValue.getText().isEmpty() || columnValue.tryParse(Character.class).isPresent();
     }
 
     @Override
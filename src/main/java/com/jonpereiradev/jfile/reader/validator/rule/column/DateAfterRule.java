@@ -70,11 +70,7 @@ public class DateAfterRule extends AbstractColumnRule {
             return min;
         }
 
-        try {
-            return getLineValue().getColumnValue(afterColumnNumber).getDate(dateFormat);
-        } catch (IllegalStateException e) {
-            return null;
-        }
+        return getLineValue().getColumnValue(afterColumnNumber).tryParseDate(dateFormat).orElse(null);
     }
 
 }
@@ -70,11 +70,7 @@ public class DateBeforeRule extends AbstractColumnRule {
             return max;
         }
 
-        try {
-            return getLineValue().getColumnValue(afterColumnNumber).getDate(dateFormat);
-        } catch (IllegalStateException e) {
-            return null;
-        }
+        return getLineValue().getColumnValue(afterColumnNumber).tryParseDate(dateFormat).orElse(null);
     }
 
 }
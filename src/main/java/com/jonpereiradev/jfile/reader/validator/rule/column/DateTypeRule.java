@@ -44,11 +44,7 @@ public class DateTypeRule extends AbstractColumnRule {
 
     @Override
     public boolean isValid(ColumnValue columnValue) {
-        try {
-            return columnValue.getText().isEmpty() || columnValue.getDate(pattern) != null;
-        } catch (IllegalStateException e) {
-            return false;
-        }
+        return columnValue.getText().isEmpty() || columnValue.tryParseDate(pattern).isPresent();
     }
 
     @Override
@@ -39,11 +39,7 @@ public class DoubleTypeRule extends AbstractColumnRule {
 
     @Override
     public boolean isValid(ColumnValue columnValue) {
-        try {
-            return columnValue.getText().isEmpty() || columnValue.getDouble() != null;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        return columnValue.getText().isEmpty() || columnValue.tryParse(Double.class).isPresent();
     }
 
     @Override
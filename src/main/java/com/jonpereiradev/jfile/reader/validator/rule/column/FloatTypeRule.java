@@ -39,11 +39,7 @@ public class FloatTypeRule extends AbstractColumnRule {
 
     @Override
     public boolean isValid(ColumnValue columnValue) {
-        try {
-            return columnValue.getText().isEmpty() || columnValue.getFloat() != null;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        return columnValue.getText().isEmpty() || columnValue.tryParse(Float.class).isPresent();
     }
 
     @Override
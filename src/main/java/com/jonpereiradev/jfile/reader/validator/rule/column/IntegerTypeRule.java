@@ -39,11 +39,7 @@ public class IntegerTypeRule extends AbstractColumnRule {
 
     @Override
     public boolean isValid(ColumnValue columnValue) {
-        try {
-            return columnValue.getText().isEmpty() || columnValue.getInt() != null;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        return columnValue.getText().isEmpty() || columnValue.tryParse(Integer.class).isPresent();
     }
 
     @Override
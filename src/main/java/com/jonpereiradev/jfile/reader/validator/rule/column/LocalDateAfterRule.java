@@ -28,7 +28,6 @@ import com.jonpereiradev.jfile.reader.file.ColumnValue;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 
 /**
@@ -71,12 +70,7 @@ public class LocalDateAfterRule extends AbstractColumnRule {
             return min;
         }
 
-        try {
-            return getLineValue().getColumnValue(refColumnNumber).getLocalDate(dateTimeFormatter);
-        } catch (DateTimeParseException e) {
-            return null;
-        }
-
+        return getLineValue().getColumnValue(refColumnNumber).tryParseLocalDate(dateTimeFormatter).orElse(null);
     }
 
 }
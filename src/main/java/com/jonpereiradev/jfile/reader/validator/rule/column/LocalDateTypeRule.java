@@ -27,7 +27,6 @@ package com.jonpereiradev.jfile.reader.validator.rule.column;
 import com.jonpereiradev.jfile.reader.file.ColumnValue;
 
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 
 /**
@@ -45,11 +44,7 @@ public class LocalDateTypeRule extends AbstractColumnRule {
 
     @Override
     public boolean isValid(ColumnValue columnValue) {
-        try {
-            return columnValue.getText().isEmpty() || columnValue.getLocalDate(dateTimeFormatter) != null;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        return columnValue.getText().isEmpty() || columnValue.tryParseLocalDate(dateTimeFormatter).isPresent();
     }
 
     @Override
@@ -24,6 +24,7 @@
 package com.jonpereiradev.jfile.reader.validator.rule.configurator;
 
 
+import com.jonpereiradev.jfile.reader.tokenizer.MultiRecordLayout;
 import com.jonpereiradev.jfile.reader.validator.JFileValidatorConfig;
 
 
@@ -46,6 +47,15 @@ public interface LineRuleConfigurator {
      */
     LineRuleConfigurator columnsSize(int size);
 
+    /**
+     * Define that the line must match one of the record types of the layout.
+     *
+     * @param layout the layout with the record types of the file.
+     *
+     * @return the object with the record type rule configured.
+     */
+    LineRuleConfigurator recordType(MultiRecordLayout layout);
+
     /**
      * Creates the rule config for the column at position.
      *
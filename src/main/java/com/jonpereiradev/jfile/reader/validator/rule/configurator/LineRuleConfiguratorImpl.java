@@ -24,8 +24,10 @@
 package com.jonpereiradev.jfile.reader.validator.rule.configurator;
 
 
+import com.jonpereiradev.jfile.reader.tokenizer.MultiRecordLayout;
 import com.jonpereiradev.jfile.reader.validator.JFileValidatorConfig;
 import com.jonpereiradev.jfile.reader.validator.rule.line.LineColumnSizeRule;
+import com.jonpereiradev.jfile.reader.validator.rule.line.LineRecordTypeRule;
 
 
 final class LineRuleConfiguratorImpl implements LineRuleConfigurator {
@@ -42,6 +44,12 @@ final class LineRuleConfiguratorImpl implements LineRuleConfigurator {
         return this;
     }
 
+    @Override
+    public LineRuleConfigurator recordType(MultiRecordLayout layout) {
+        configuration.getRuleRoot().getLineRootNode().add(new LineRecordTypeRule(layout));
+        return this;
+    }
+
     @Override
     public ColumnRuleConfigurator columns() {
         return new ColumnRuleConfiguratorImpl(configuration);
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.file.LineValue;
+import com.jonpereiradev.jfile.reader.infrastructure.AbstractFileReaderTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+
+public class FollowingLineReaderTest extends AbstractFileReaderTest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    @Test(timeout = 10000)
+    public void mustWaitForCompleteLines() throws IOException {
+        Path path = createFileWithContent("1;a\n2;b");
+        JFileReaderConfig readerConfig = newFollowConfig();
+
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, readerConfig)) {
+            Iterator<LineValue> iterator = reader.iterator();
+            Assert.assertEquals("1;a", iterator.next().getContent());
+
+            appendLater(path, ";c\r\n3;d\n");
+
+            LineValue lineValue = iterator.next();
+            Assert.assertEquals(2, lineValue.getLineNumber());
+            Assert.assertEquals("2;b;c", lineValue.getContent());
+            Assert.assertEquals("3;d", iterator.next().getContent());
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void mustReadTruncatedFileFromBeginning() throws IOException {
+        Path path = createFileWithContent("1;a\n2;b\n");
+
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, newFollowConfig())) {
+            Iterator<LineValue> iterator = reader.iterator();
+            iterator.next();
+            iterator.next();
+
+            Files.write(path, "x;y\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.TRUNCATE_EXISTING);
+
+            LineValue lineValue = iterator.next();
+            Assert.assertEquals(3, lineValue.getLineNumber());
+            Assert.assertEquals("x;y", lineValue.getContent());
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void mustStripCarriageReturnOfReplacedFile() throws IOException {
+        Path path = createFileWithContent("1;a\n2;b\r");
+        Path rotatedPath = path.resolveSibling(path.getFileName() + ".1");
+
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, newFollowConfig())) {
+            Iterator<LineValue> iterator = reader.iterator();
+            Assert.assertEquals("1;a", iterator.next().getContent());
+
+            Files.move(path, rotatedPath);
+            Files.write(path, "3;c\n".getBytes(StandardCharsets.UTF_8));
+
+            Assert.assertEquals("2;b", iterator.next().getContent());
+            Assert.assertEquals("3;c", iterator.next().getContent());
+        } finally {
+            Files.deleteIfExists(rotatedPath);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void mustFinishIterationWhenClosed() throws Exception {
+        Path path = createFileWithContent("1;a\n");
+        JFileReader reader = JFileReaderFactory.newJFileReader(path, newFollowConfig());
+        Iterator<LineValue> iterator = reader.iterator();
+
+        iterator.next();
+        CompletableFuture.runAsync(() -> closeLater(reader));
+
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    private static JFileReaderConfig newFollowConfig() {
+        return JFileReaderFactory.newUtf8ReaderConfig(";").follow(true).followPollInterval(POLL_INTERVAL);
+    }
+
+    private static void appendLater(Path path, String content) {
+        CompletableFuture.runAsync(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(100);
+                Files.write(path, content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            } catch (InterruptedException | IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static void closeLater(JFileReader reader) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(100);
+            reader.close();
+        } catch (InterruptedException | IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.file.LineValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+
+public class InflatingInputStreamTest {
+
+    private static final int MEMBERS = 40;
+    private static final int LINES = 500;
+
+    @Test
+    public void mustReadMembersOfGzipInOrder() throws IOException {
+        Path path = Files.createTempFile("jfile", ".csv.gz");
+        List<String> expected = new ArrayList<>();
+
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            for (int member = 0; member < MEMBERS; member++) {
+                String content = newContent(member, LINES, expected, true);
+                byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+                outputStream.write(member % 2 == 0 ? gzip(bytes) : gzipWithName(bytes, "member-" + member));
+            }
+        }
+
+        Assert.assertEquals(expected, readLines(path));
+    }
+
+    @Test
+    public void mustReadSingleMemberLargerThanAChunk() throws IOException {
+        Path path = Files.createTempFile("jfile", ".csv.gz");
+        List<String> expected = new ArrayList<>();
+        String content = newContent(0, 20000, expected, false);
+
+        Files.write(path, gzip(content.getBytes(StandardCharsets.UTF_8)));
+
+        Assert.assertEquals(expected, readLines(path));
+    }
+
+    @Test
+    public void mustScanMembersWhileInflating() throws IOException {
+        Path path = Files.createTempFile("jfile", ".csv.gz");
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        Random random = new Random(42);
+        int members = 100;
+
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            for (int member = 0; member < members; member++) {
+                // incompressible members, so the file and the first member are bigger than the window scanned
+                byte[] bytes = new byte[member == 0 ? 3 * 1024 * 1024 : 64 * 1024];
+                random.nextBytes(bytes);
+                expected.write(bytes);
+                outputStream.write(gzip(bytes));
+            }
+        }
+
+        try (GzipInflatingInputStream inputStream = GzipInflatingInputStream.newInstance(path, 2)) {
+            Assert.assertTrue(inputStream.getSegments().size() < members);
+
+            ByteArrayOutputStream actual = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+
+            while ((read = inputStream.read(buffer)) != -1) {
+                actual.write(buffer, 0, read);
+            }
+
+            Assert.assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+        }
+    }
+
+    @Test
+    public void mustReadEntriesOfZipInOrder() throws IOException {
+        Path path = Files.createTempFile("jfile", ".zip");
+        List<String> expected = new ArrayList<>();
+
+        try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(path))) {
+            outputStream.putNextEntry(new ZipEntry("parts/"));
+            outputStream.closeEntry();
+
+            for (int entry = 0; entry < MEMBERS; entry++) {
+                // the entries without a line separator at the end aren't joined with the next entry
+                String content = newContent(entry, LINES, expected, entry % 2 == 0);
+                outputStream.putNextEntry(new ZipEntry("parts/part-" + entry + ".csv"));
+                outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+                outputStream.closeEntry();
+            }
+        }
+
+        Assert.assertEquals(expected, readLines(path));
+    }
+
+    @Test(expected = IOException.class)
+    public void mustRejectUncompressedFile() throws IOException {
+        Path path = Files.write(Files.createTempFile("jfile", ".csv"), "1;a".getBytes(StandardCharsets.UTF_8));
+        JFileReaderFactory.newCompressedJFileReader(path, JFileReaderFactory.newUtf8ReaderConfig(";")).close();
+    }
+
+    private static List<String> readLines(Path path) throws IOException {
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";").fileParallelism(4);
+
+        try (JFileReader fileReader = JFileReaderFactory.newCompressedJFileReader(path, readerConfig)) {
+            return fileReader.stream().map(LineValue::getContent).collect(Collectors.toList());
+        }
+    }
+
+    private static String newContent(int part, int lines, List<String> expected, boolean separatorAtEnd) {
+        List<String> content = new ArrayList<>();
+
+        for (int line = 1; line <= lines; line++) {
+            content.add(part + ";" + line);
+        }
+
+        expected.addAll(content);
+
+        return String.join("\n", content) + (separatorAtEnd ? "\n" : "");
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] gzipWithName(byte[] bytes, String name) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+
+        outputStream.write(new byte[]{0x1F, (byte) 0x8B, 8, 8, 0, 0, 0, 0, 0, (byte) 0xFF});
+        outputStream.write(name.getBytes(StandardCharsets.ISO_8859_1));
+        outputStream.write(0);
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+
+        // closing the deflater stream only finishes it, since closing a ByteArrayOutputStream has no effect
+        try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream, deflater)) {
+            deflaterOutputStream.write(bytes);
+        } finally {
+            deflater.end();
+        }
+
+        writeInt(outputStream, (int) crc.getValue());
+        writeInt(outputStream, bytes.length);
+
+        return outputStream.toByteArray();
+    }
+
+    private static void writeInt(OutputStream outputStream, int value) throws IOException {
+        outputStream.write(value);
+        outputStream.write(value >>> 8);
+        outputStream.write(value >>> 16);
+        outputStream.write(value >>> 24);
+    }
+
+}
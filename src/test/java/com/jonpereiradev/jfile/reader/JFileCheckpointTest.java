@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.file.LineValue;
+import com.jonpereiradev.jfile.reader.infrastructure.AbstractFileReaderTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+
+public class JFileCheckpointTest extends AbstractFileReaderTest {
+
+    private static final String CONTENT = "1;a\r\n2;b\n3;\"c\nd\"\n4;e\n5;f";
+
+    @Test
+    public void mustResumeReadingAfterCheckpoint() throws IOException {
+        Path path = createFileWithContent(CONTENT);
+        Path stateFile = Files.createTempFile("checkpoint", ".properties");
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";").memoryMapped(true);
+
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, readerConfig)) {
+            Iterator<LineValue> iterator = reader.iterator();
+            Assert.assertEquals(JFileCheckpoint.newCheckpoint(0, 0), reader.checkpoint());
+
+            iterator.next();
+            iterator.next();
+            Assert.assertTrue(iterator.hasNext());
+
+            reader.checkpoint().save(stateFile);
+        }
+
+        JFileCheckpoint checkpoint = JFileCheckpoint.load(stateFile);
+        Assert.assertEquals(CONTENT.indexOf("3;"), checkpoint.getPosition());
+        Assert.assertEquals(2, checkpoint.getLineNumber());
+
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, readerConfig, checkpoint)) {
+            Iterator<LineValue> iterator = reader.iterator();
+            LineValue lineValue = iterator.next();
+
+            Assert.assertEquals(3, lineValue.getLineNumber());
+            Assert.assertEquals("3;\"c", lineValue.getContent());
+            Assert.assertEquals(JFileCheckpoint.newCheckpoint(CONTENT.indexOf("d\""), 3), reader.checkpoint());
+        }
+    }
+
+    @Test
+    public void mustStreamFromTheCheckpoint() throws IOException {
+        Path path = createFileWithContent(CONTENT);
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";").memoryMapped(true);
+        JFileCheckpoint checkpoint = JFileCheckpoint.newCheckpoint(CONTENT.indexOf("3;"), 2);
+
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, readerConfig, checkpoint)) {
+            List<Long> lineNumbers = reader.stream().map(LineValue::getLineNumber).collect(Collectors.toList());
+            List<String> contents = reader.stream().parallel().map(LineValue::getContent).collect(Collectors.toList());
+
+            Assert.assertEquals(Arrays.asList(3L, 4L, 5L, 6L), lineNumbers);
+            Assert.assertEquals(Arrays.asList("3;\"c", "d\"", "4;e", "5;f"), contents);
+        }
+
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, readerConfig.skipLines(3), checkpoint)) {
+            List<String> contents = reader.stream().map(LineValue::getContent).collect(Collectors.toList());
+            Assert.assertEquals(Arrays.asList("d\"", "4;e", "5;f"), contents);
+        }
+    }
+
+    @Test
+    public void mustStreamFromTheIteratorPosition() throws IOException {
+        Path path = createFileWithContent(CONTENT);
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";").memoryMapped(true).limit(5);
+
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, readerConfig)) {
+            Iterator<LineValue> iterator = reader.iterator();
+            iterator.next();
+            iterator.next();
+            Assert.assertTrue(iterator.hasNext());
+
+            List<Long> lineNumbers = reader.stream().map(LineValue::getLineNumber).collect(Collectors.toList());
+            Assert.assertEquals(Arrays.asList(3L, 4L, 5L), lineNumbers);
+        }
+    }
+
+    @Test
+    public void mustResumeQuotedRecordsWithReadAhead() throws IOException {
+        Path path = createFileWithContent(CONTENT);
+        JFileReaderConfig readerConfig = JFileReaderFactory
+            .newUtf8ReaderConfig(";")
+            .memoryMapped(true)
+            .quoted('"')
+            .readAhead(2);
+
+        JFileCheckpoint checkpoint;
+
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, readerConfig)) {
+            Iterator<LineValue> iterator = reader.iterator();
+
+            iterator.next();
+            iterator.next();
+            Assert.assertEquals("c\nd", iterator.next().getColumnValue(2).getText());
+            Assert.assertTrue(iterator.hasNext());
+
+            checkpoint = reader.checkpoint();
+        }
+
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, readerConfig, checkpoint)) {
+            LineValue lineValue = reader.iterator().next();
+
+            Assert.assertEquals(4, lineValue.getLineNumber());
+            Assert.assertEquals("4;e", lineValue.getContent());
+        }
+    }
+
+    @Test
+    public void mustResumeFromCheckpointOfDefaultReader() throws IOException {
+        Path path = createFileWithContent(CONTENT);
+        JFileCheckpoint checkpoint;
+
+        try (JFileReader reader = JFileReaderFactory.newUtf8JFileReader(path, ";")) {
+            Iterator<LineValue> iterator = reader.iterator();
+            Assert.assertEquals(JFileCheckpoint.newCheckpoint(0, 0), reader.checkpoint());
+
+            iterator.next();
+            Assert.assertEquals(JFileCheckpoint.newCheckpoint(CONTENT.indexOf("2;"), 1), reader.checkpoint());
+
+            iterator.next();
+            Assert.assertTrue(iterator.hasNext());
+            checkpoint = reader.checkpoint();
+        }
+
+        Assert.assertEquals(JFileCheckpoint.newCheckpoint(CONTENT.indexOf("3;"), 2), checkpoint);
+
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";");
+
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, readerConfig, checkpoint)) {
+            LineValue lineValue = reader.iterator().next();
+
+            Assert.assertEquals(3, lineValue.getLineNumber());
+            Assert.assertEquals("3;\"c", lineValue.getContent());
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void mustRequireFileForCheckpoint() throws IOException {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        try (JFileReader reader = JFileReaderFactory.newUtf8JFileReader(inputStream, ";")) {
+            reader.checkpoint();
+        }
+    }
+
+}
@@ -24,19 +24,39 @@
 package com.jonpereiradev.jfile.reader;
 
 
+import com.jonpereiradev.jfile.reader.file.ColumnValue;
 import com.jonpereiradev.jfile.reader.file.LineValue;
 import com.jonpereiradev.jfile.reader.infrastructure.AbstractFileReaderTest;
 import com.jonpereiradev.jfile.reader.model.Example;
+import com.jonpereiradev.jfile.reader.model.FixedWidthExample;
+import com.jonpereiradev.jfile.reader.tokenizer.FixedWidthLayout;
+import com.jonpereiradev.jfile.reader.tokenizer.MultiRecordLayout;
+import com.jonpereiradev.jfile.reader.validator.JFileValidator;
+import com.jonpereiradev.jfile.reader.validator.JFileValidatorConfig;
+import com.jonpereiradev.jfile.reader.validator.JFileValidatorFactory;
+import com.jonpereiradev.jfile.reader.validator.ValidationReport;
+import com.jonpereiradev.jfile.reader.validator.rule.RuleViolation;
+import com.jonpereiradev.jfile.reader.validator.rule.line.LineRecordTypeRule;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 
 public class JFileReaderTest extends AbstractFileReaderTest {
@@ -117,4 +137,484 @@ public class JFileReaderTest extends AbstractFileReaderTest {
         }
     }
 
+    @Test
+    public void mustReadMemoryMappedFile() throws IOException {
+        Path path = createFileWithContent("1;a\r\n2;b\n\n3;c");
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";").memoryMapped(true);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            Iterator<LineValue> iterator = fileReader.iterator();
+
+            Assert.assertEquals("1;a", iterator.next().getContent());
+            Assert.assertEquals("2;b", iterator.next().getContent());
+            Assert.assertEquals("", iterator.next().getContent());
+
+            LineValue lineValue = iterator.next();
+            Assert.assertEquals(4, lineValue.getLineNumber());
+            Assert.assertEquals("c", lineValue.getColumnValue(2).getText());
+            Assert.assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    public void mustUseLiteralTokenizerForLiteralDelimiters() {
+        Class<?> literal = JFileReaderFactory.newUtf8ReaderConfig(";").getLineTokenizer().getClass();
+
+        Assert.assertEquals(literal, JFileReaderFactory.newUtf8ReaderConfig("\\|").getLineTokenizer().getClass());
+        Assert.assertEquals(literal, JFileReaderFactory.newUtf8ReaderConfig("<>").getLineTokenizer().getClass());
+        Assert.assertNotEquals(literal, JFileReaderFactory.newUtf8ReaderConfig(".").getLineTokenizer().getClass());
+        Assert.assertNotEquals(literal, JFileReaderFactory.newUtf8ReaderConfig("\\s").getLineTokenizer().getClass());
+    }
+
+    @Test
+    public void mustKeepTheFlagsOfLiteralPatterns() throws IOException {
+        Path path = createFileWithContent("a;x;b;X;c");
+        Pattern pattern = Pattern.compile(";X;", Pattern.LITERAL | Pattern.CASE_INSENSITIVE);
+        JFileReaderConfig configuration = new JFileReaderConfigImpl(pattern, StandardCharsets.UTF_8);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            LineValue lineValue = fileReader.iterator().next();
+            Assert.assertEquals("a", lineValue.getColumnValue(1).getText());
+            Assert.assertEquals("b", lineValue.getColumnValue(2).getText());
+            Assert.assertEquals("c", lineValue.getColumnValue(3).getText());
+        }
+
+        Pattern literal = Pattern.compile("|", Pattern.LITERAL);
+        Assert.assertEquals(
+            JFileReaderFactory.newUtf8ReaderConfig(";").getLineTokenizer().getClass(),
+            new JFileReaderConfigImpl(literal, StandardCharsets.UTF_8).getLineTokenizer().getClass()
+        );
+    }
+
+    @Test
+    public void mustCreateColumnsOnlyWhenRequested() throws IOException {
+        Path path = createFileWithContent(" a ;b; c;;");
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";");
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            LineValue lineValue = fileReader.iterator().next();
+
+            Assert.assertEquals(3, lineValue.getColumnValues().size());
+            Assert.assertSame(lineValue.getColumnValue(3), lineValue.getColumnValues().last());
+            Assert.assertEquals("a", lineValue.getColumnValue(1).getText());
+            Assert.assertEquals("c", lineValue.getColumnValue(3).getText());
+            Assert.assertTrue(lineValue.hasColumnValue(3));
+            Assert.assertFalse(lineValue.hasColumnValue(4));
+        }
+    }
+
+    @Test
+    public void mustReuseLineValueUntilNextLine() throws IOException {
+        Path path = createFileWithContent("1;a\n2;b");
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";").reusableLineValue(true);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            Iterator<LineValue> iterator = fileReader.iterator();
+
+            LineValue firstLine = iterator.next();
+            ColumnValue firstColumn = firstLine.getColumnValue(2);
+            LineValue firstCopy = firstLine.copy();
+            Assert.assertEquals("a", firstColumn.getText());
+
+            LineValue secondLine = iterator.next();
+            Assert.assertSame(firstLine, secondLine);
+            Assert.assertSame(firstColumn, secondLine.getColumnValue(2));
+            Assert.assertEquals(2, secondLine.getLineNumber());
+            Assert.assertEquals("b", firstColumn.getText());
+
+            Assert.assertEquals(1, firstCopy.getLineNumber());
+            Assert.assertEquals("a", firstCopy.getColumnValue(2).getText());
+        }
+    }
+
+    @Test
+    public void mustIterateLinesInBatches() throws IOException {
+        Path path = createFileWithContent("1;a\n2;b\n3;c\n4;d\n5;e");
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";").reusableLineValue(true);
+        List<String> batches = new ArrayList<>();
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            fileReader.forEachBatch(2, batch -> batches.add(batch
+                .stream()
+                .map(lineValue -> lineValue.getLineNumber() + lineValue.getColumnValue(2).getText())
+                .collect(Collectors.joining(","))));
+        }
+
+        Assert.assertEquals(Arrays.asList("1a,2b", "3c,4d", "5e"), batches);
+    }
+
+    @Test
+    public void mustIterateValidLinesInBatches() throws IOException {
+        Path path = createFileWithContent("1;a\nx;b\n3;c\n4;d");
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";");
+        JFileValidatorConfig validatorConfig = JFileValidatorFactory.newValidatorConfig();
+        validatorConfig.columns().column(1).integerType();
+
+        JFileValidator validator = JFileValidatorFactory.newJFileValidator(validatorConfig);
+        List<Integer> batchSizes = new ArrayList<>();
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            fileReader.forEachValidBatch(validator, 2, batch -> batchSizes.add(batch.size()));
+        }
+
+        Assert.assertEquals(Arrays.asList(2, 1), batchSizes);
+    }
+
+    @Test
+    public void mustFillBatchesWithinTheRangeOfLines() throws IOException {
+        Path path = createFileWithContent("1;a\n2;b\n3;c\n4;d\n5;e\n6;f");
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";").lineRange(2, 5);
+        List<Long> lineNumbers = new ArrayList<>();
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            Assert.assertEquals(2, fileReader.iterator().next().getLineNumber());
+
+            Iterator<List<LineValue>> batchIterator = fileReader.batchIterator(2);
+            batchIterator.forEachRemaining(batch -> batch.forEach(o -> lineNumbers.add(o.getLineNumber())));
+
+            Assert.assertFalse(fileReader.iterator().hasNext());
+        }
+
+        Assert.assertEquals(Arrays.asList(3L, 4L, 5L), lineNumbers);
+    }
+
+    @Test
+    public void mustStreamBatchesOfLines() throws IOException {
+        Path path = createFileWithContent("1;a\n2;b\n3;c");
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";").reusableLineValue(true);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            List<List<LineValue>> batches = fileReader.batchStream(2).collect(Collectors.toList());
+
+            Assert.assertEquals(2, batches.size());
+            Assert.assertEquals("1;a", batches.get(0).get(0).getContent());
+            Assert.assertEquals("2;b", batches.get(0).get(1).getContent());
+            Assert.assertEquals(3, batches.get(1).get(0).getLineNumber());
+        }
+    }
+
+    @Test
+    public void mustReadQuotedColumnsSpanningLines() throws IOException {
+        Path path = createFileWithContent("1;\"a;\"\"b\"\"\"\n2;\"c\nd\";e\n3;f");
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";").quoted('"');
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            List<LineValue> lineValues = fileReader.stream().collect(Collectors.toList());
+
+            Assert.assertEquals(3, lineValues.size());
+            Assert.assertEquals("a;\"b\"", lineValues.get(0).getColumnValue(2).getText());
+            Assert.assertEquals("2;\"c\nd\";e", lineValues.get(1).getContent());
+            Assert.assertEquals("c\nd", lineValues.get(1).getColumnValue(2).getText());
+            Assert.assertEquals("e", lineValues.get(1).getColumnValue(3).getText());
+            Assert.assertEquals(3, lineValues.get(2).getLineNumber());
+        }
+    }
+
+    @Test
+    public void mustReadQuotedRecordsWithManyLines() throws IOException {
+        StringBuilder builder = new StringBuilder("1;\"a");
+
+        for (int i = 0; i < 5000; i++) {
+            builder.append("\n\"\"").append(i).append(";\"\"");
+        }
+
+        String column = builder.substring(3).replace("\"\"", "\"");
+        Path path = createFileWithContent(builder.append("\";b\n2;c").toString());
+
+        for (int readAheadDepth : new int[]{0, 2}) {
+            JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";").quoted('"');
+
+            if (readAheadDepth > 0) {
+                configuration.readAhead(readAheadDepth);
+            }
+
+            try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+                List<LineValue> lineValues = fileReader.stream().collect(Collectors.toList());
+
+                Assert.assertEquals(2, lineValues.size());
+                Assert.assertEquals(column, lineValues.get(0).getColumnValue(2).getText());
+                Assert.assertEquals("b", lineValues.get(0).getColumnValue(3).getText());
+                Assert.assertEquals(2, lineValues.get(1).getLineNumber());
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void mustRequireLiteralDelimiterForQuotedColumns() {
+        JFileReaderFactory.newUtf8ReaderConfig("\\s+").quoted('"');
+    }
+
+    @Test
+    public void mustSliceFixedWidthColumns() throws IOException {
+        Path path = createFileWithContent("001Jon       19121991\n002Pereira");
+        FixedWidthLayout layout = FixedWidthLayout.newLayout().column(1, 0, 3).column(2, 3, 10).column(3, 13, 8);
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(layout.trimmed(false));
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            Iterator<LineValue> iterator = fileReader.iterator();
+
+            LineValue firstLine = iterator.next();
+            Assert.assertEquals(1, firstLine.getColumnValue(1).getInt().intValue());
+            Assert.assertEquals("Jon       ", firstLine.getColumnValue(2).getText());
+            Assert.assertEquals("19121991", firstLine.getColumnValue(3).getText());
+
+            LineValue secondLine = iterator.next();
+            Assert.assertEquals("Pereira", secondLine.getColumnValue(2).getText());
+            Assert.assertEquals("", secondLine.getColumnValue(3).getText());
+        }
+    }
+
+    @Test
+    public void mustConvertFixedWidthLineByAnnotatedLayout() throws IOException {
+        Path path = createFileWithContent("001Jon       19121991");
+        FixedWidthLayout layout = FixedWidthLayout.newLayout(FixedWidthExample.class);
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(layout);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            fileReader.forEach(FixedWidthExample.class, example -> {
+                Assert.assertEquals(Integer.valueOf(1), example.getCodigo());
+                Assert.assertEquals("Jon", example.getNome());
+                Assert.assertEquals(LocalDate.parse("1991-12-19"), example.getDataPagamento());
+            });
+        }
+    }
+
+    @Test
+    public void mustDispatchLinesByRecordType() throws IOException {
+        Path path = createFileWithContent(String.join("\n",
+            "0HEADER",
+            "3P00010",
+            "3Qjon  ",
+            "3Xabc  ",
+            "7"
+        ));
+
+        MultiRecordLayout layout = MultiRecordLayout.newLayout(0, 1)
+            .record("0", FixedWidthLayout.newLayout().column(1, 0, 1).column(2, 1, 6))
+            .record("3P", FixedWidthLayout.newLayout().column(1, 0, 2).column(2, 2, 5))
+            .record("3", FixedWidthLayout.newLayout().column(1, 0, 2).column(2, 2, 3).column(3, 5, 2));
+
+        JFileValidatorConfig segmentConfig = JFileValidatorFactory.newValidatorConfig();
+        segmentConfig.columns().column(2).integerType().notNull();
+
+        Map<String, JFileValidatorConfig> validatorConfigs = new HashMap<>();
+        validatorConfigs.put("3P", segmentConfig);
+
+        JFileValidator validator = JFileValidatorFactory.newJFileValidator(layout, validatorConfigs);
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(layout);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            List<LineValue> lineValues = fileReader.stream().collect(Collectors.toList());
+
+            Assert.assertEquals("HEADER", lineValues.get(0).getColumnValue(2).getText());
+            Assert.assertEquals(10, lineValues.get(1).getColumnValue(2).getInt().intValue());
+            Assert.assertEquals("jon", lineValues.get(2).getColumnValue(2).getText());
+            Assert.assertEquals(3, lineValues.get(3).getColumnValues().size());
+            Assert.assertEquals(1, lineValues.get(4).getColumnValues().size());
+
+            Assert.assertTrue(validator.validate(lineValues.get(1)).isValid());
+            Assert.assertTrue(validator.validate(lineValues.get(2)).isValid());
+
+            List<RuleViolation> violations = validator.validate(lineValues.get(4)).getViolations();
+            Assert.assertEquals(1, violations.size());
+            Assert.assertEquals(LineRecordTypeRule.class.getSimpleName(), violations.get(0).getRule());
+        }
+    }
+
+    @Test
+    public void mustReadOnlyTheConfiguredRangeOfLines() throws IOException {
+        Path path = createFileWithContent(IntStream.rangeClosed(1, 20).mapToObj(String::valueOf)
+            .collect(Collectors.joining("\n")));
+        LineIndex.build(path, StandardCharsets.UTF_8, 4);
+
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";").skipLines(5).limit(3);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            List<Long> lineNumbers = new ArrayList<>();
+
+            for (LineValue lineValue : fileReader) {
+                Assert.assertEquals(lineValue.getLineNumber(), lineValue.getColumnValue(1).getInt().intValue());
+                lineNumbers.add(lineValue.getLineNumber());
+            }
+
+            Assert.assertEquals(Arrays.asList(6L, 7L, 8L), lineNumbers);
+        }
+
+        configuration.lineRange(10, 17);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            List<Integer> lineNumbers = fileReader.stream().parallel()
+                .map(lineValue -> lineValue.getColumnValue(1).getInt())
+                .collect(Collectors.toList());
+
+            Assert.assertEquals(IntStream.rangeClosed(10, 17).boxed().collect(Collectors.toList()), lineNumbers);
+        }
+    }
+
+    @Test
+    public void mustDiscardSkippedLinesOfUnsplittableReader() throws IOException {
+        Path path = createFileWithContent(String.join("\n", "header", "1;\"a", "b\"", "2;c", "3;d"));
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";").quoted('"').skipLines(1).limit(2);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            List<String> texts = fileReader.stream()
+                .map(lineValue -> lineValue.getColumnValue(2).getText())
+                .collect(Collectors.toList());
+
+            Assert.assertEquals(Arrays.asList("a\nb", "c"), texts);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mustRejectInvalidRangeOfLines() {
+        JFileReaderFactory.newUtf8ReaderConfig(";").lineRange(5, 3);
+    }
+
+    @Test
+    public void mustTokenizeOnlyUntilTheLastProjectedColumn() throws IOException {
+        Path path = createFileWithContent("1;a;2;b;3;c\n4;d;;e;5;f");
+        JFileValidatorConfig validatorConfig = JFileValidatorFactory.newValidatorConfig();
+        validatorConfig.columns().column(1).integerType().notNull();
+        validatorConfig.columns().column(3).integerType();
+
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";").projection(validatorConfig);
+        JFileValidator validator = JFileValidatorFactory.newJFileValidator(validatorConfig);
+
+        Assert.assertEquals(Arrays.asList(1, 3), new ArrayList<>(configuration.getProjection()));
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            for (LineValue lineValue : fileReader) {
+                Assert.assertEquals(3, lineValue.getColumnValues().size());
+                Assert.assertTrue(validator.validate(lineValue).isValid());
+            }
+        }
+    }
+
+    @Test
+    public void mustApplyColumnRulesAddedAfterTheValidatorIsCreated() throws IOException {
+        Path path = createFileWithContent("1;a;x");
+        JFileValidatorConfig validatorConfig = JFileValidatorFactory.newValidatorConfig();
+        validatorConfig.columns().column(1).integerType();
+
+        JFileValidator validator = JFileValidatorFactory.newJFileValidator(validatorConfig);
+
+        try (JFileReader fileReader = JFileReaderFactory.newUtf8JFileReader(path, ";")) {
+            LineValue lineValue = fileReader.iterator().next();
+            Assert.assertTrue(validator.validate(lineValue).isValid());
+
+            validatorConfig.columns().column(3).integerType();
+
+            List<RuleViolation> violations = validator.validate(lineValue).getViolations();
+            Assert.assertEquals(1, violations.size());
+            Assert.assertEquals(3, violations.get(0).getColumnNumber());
+        }
+    }
+
+    @Test
+    public void mustProjectColumnsOfTheConvertedClass() {
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";").projection(Example.class);
+        Assert.assertEquals(8, configuration.getProjection().last().intValue());
+
+        JFileValidatorConfig validatorConfig = JFileValidatorFactory.newValidatorConfig();
+        validatorConfig.lines().columnsSize(3);
+
+        Assert.assertTrue(configuration.projection(validatorConfig).getProjection().isEmpty());
+    }
+
+    @Test
+    public void mustProjectTheUnionOfTheColumns() throws IOException {
+        Path path = createFileWithContent("1;a;2;b;3;c");
+        JFileValidatorConfig validatorConfig = JFileValidatorFactory.newValidatorConfig();
+        validatorConfig.columns().column(3).integerType();
+
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";").projection(5);
+        configuration.projection(validatorConfig);
+
+        Assert.assertEquals(Arrays.asList(3, 5), new ArrayList<>(configuration.getProjection()));
+
+        JFileValidatorConfig lineValidatorConfig = JFileValidatorFactory.newValidatorConfig();
+        lineValidatorConfig.lines().columnsSize(6);
+        configuration.projection(lineValidatorConfig).projection(2);
+
+        Assert.assertTrue(configuration.getProjection().isEmpty());
+
+        JFileValidator validator = JFileValidatorFactory.newJFileValidator(lineValidatorConfig);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            LineValue lineValue = fileReader.iterator().next();
+            Assert.assertEquals(6, lineValue.getColumnValues().size());
+            Assert.assertTrue(validator.validate(lineValue).isValid());
+        }
+    }
+
+    @Test
+    public void mustFilterRawLinesBeforeTokenization() throws IOException {
+        Path path = createFileWithContent(String.join("\n",
+            "0;HEADER", "3;1;APPROVED", "3;2;REJECTED", "5;x", "3;4;APPROVED", "3;5;APPROVED", "9;TRAILER"));
+
+        JFileReaderConfig configuration = JFileReaderFactory.newUtf8ReaderConfig(";")
+            .lineFilter(LineFilter.startsWith("3"))
+            .lineFilter(LineFilter.contains(";APPROVED"));
+
+        List<Long> expected = Arrays.asList(2L, 5L, 6L);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            List<Long> lineNumbers = new ArrayList<>();
+            fileReader.forEach(lineValue -> lineNumbers.add(lineValue.getLineNumber()));
+            Assert.assertEquals(expected, lineNumbers);
+        }
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            List<Long> lineNumbers = fileReader.stream().parallel()
+                .map(LineValue::getLineNumber)
+                .collect(Collectors.toList());
+            Assert.assertEquals(expected, lineNumbers);
+        }
+
+        configuration.readAhead(4).quoted('"').lineRange(4, 5);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+            List<Long> lineNumbers = new ArrayList<>();
+            fileReader.forEach(lineValue -> lineNumbers.add(lineValue.getLineNumber()));
+            Assert.assertEquals(Collections.singletonList(5L), lineNumbers);
+        }
+    }
+
+    @Test
+    public void mustCarryTheByteOffsetOfEachLine() throws IOException {
+        Path path = createFileWithContent("1;a\r\n22;bb\n333;ccc\n4;d");
+        List<Long> expected = Arrays.asList(0L, 5L, 11L, 19L);
+        JFileReaderConfig mappedConfig = JFileReaderFactory.newUtf8ReaderConfig(";").memoryMapped(true);
+        JFileReaderConfig streamConfig = JFileReaderFactory.newUtf8ReaderConfig(";").memoryMapped(false);
+        JFileReaderConfig readAheadConfig = JFileReaderFactory.newUtf8ReaderConfig(";").readAhead(2).quoted('"');
+
+        for (JFileReaderConfig configuration : Arrays.asList(mappedConfig, streamConfig, readAheadConfig)) {
+            try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, configuration)) {
+                List<Long> offsets = new ArrayList<>();
+                fileReader.forEach(lineValue -> offsets.add(lineValue.getOffset()));
+                Assert.assertEquals(expected, offsets);
+            }
+        }
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, mappedConfig)) {
+            List<Long> offsets = fileReader.stream().map(LineValue::getOffset).collect(Collectors.toList());
+            Assert.assertEquals(expected, offsets);
+            Assert.assertEquals(11L, fileReader.readLine(3).getOffset());
+        }
+
+        JFileValidatorConfig validatorConfig = JFileValidatorFactory.newValidatorConfig();
+        validatorConfig.columns().column(1).integerType().max(100);
+        JFileValidator validator = JFileValidatorFactory.newJFileValidator(validatorConfig);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(path, mappedConfig.skipLines(2))) {
+            LineValue lineValue = fileReader.iterator().next();
+            ValidationReport report = validator.validate(lineValue);
+
+            Assert.assertEquals(3L, report.getViolations().get(0).getLineNumber());
+            Assert.assertEquals(11L, report.getViolations().get(0).getOffset());
+            Assert.assertEquals(11L, report.getOffset(3));
+            Assert.assertEquals(-1L, report.getOffset(4));
+        }
+    }
+
 }
@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.file.LineValue;
+import com.jonpereiradev.jfile.reader.infrastructure.AbstractFileReaderTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+public class LineIndexTest extends AbstractFileReaderTest {
+
+    private static final String CONTENT = "1;a\n2;b\r\n3;c\n\n5;e\n6;f\n7;g\n8;h\n9;i\n10;j\n";
+
+    @Test
+    public void mustWriteSidecarIndex() throws IOException {
+        Path path = createFileWithContent(CONTENT);
+        LineIndex lineIndex = LineIndex.build(path, StandardCharsets.UTF_8, 3);
+
+        Assert.assertTrue(Files.exists(LineIndex.getSidecarPath(path)));
+        Assert.assertEquals(10, lineIndex.getLineCount());
+        Assert.assertEquals(7, lineIndex.getIndexedLineNumber(9));
+        Assert.assertEquals(CONTENT.indexOf("7;g"), lineIndex.getIndexedOffset(9));
+        Assert.assertEquals(lineIndex.getIndexedOffset(9), LineIndex.find(path).getIndexedOffset(9));
+    }
+
+    @Test
+    public void mustReadLineByNumber() throws IOException {
+        Path path = createFileWithContent(CONTENT);
+        LineIndex.build(path, StandardCharsets.UTF_8, 3);
+
+        try (JFileReader reader = JFileReaderFactory.newUtf8JFileReader(path, ";")) {
+            for (int lineNumber = 10; lineNumber >= 1; lineNumber--) {
+                LineValue lineValue = reader.readLine(lineNumber);
+                Assert.assertEquals(lineNumber, lineValue.getLineNumber());
+                Assert.assertEquals(lineNumber == 4 ? "" : String.valueOf(lineNumber), firstColumn(lineValue));
+            }
+
+            Assert.assertEquals("1", firstColumn(reader.iterator().next()));
+        }
+    }
+
+    @Test
+    public void mustSeekIteratorToLine() throws IOException {
+        Path path = createFileWithContent(CONTENT);
+        LineIndex.build(path, StandardCharsets.UTF_8, 3);
+
+        try (JFileReader reader = JFileReaderFactory.newUtf8JFileReader(path, ";")) {
+            Iterator<LineValue> iterator = reader.iterator();
+            Assert.assertEquals("1", firstColumn(iterator.next()));
+
+            reader.seekToLine(8);
+            LineValue lineValue = iterator.next();
+            Assert.assertEquals(8, lineValue.getLineNumber());
+            Assert.assertEquals("8", firstColumn(lineValue));
+
+            reader.seekToLine(2);
+            Assert.assertEquals("2", firstColumn(iterator.next()));
+            Assert.assertEquals("3", firstColumn(iterator.next()));
+        }
+    }
+
+    @Test
+    public void mustIgnoreStaleIndex() throws IOException {
+        Path path = createFileWithContent(CONTENT);
+        LineIndex.build(path, StandardCharsets.UTF_8, 3);
+        Files.write(path, ("0;z\n" + CONTENT).getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(0));
+
+        Assert.assertNull(LineIndex.find(path));
+
+        try (JFileReader reader = JFileReaderFactory.newUtf8JFileReader(path, ";")) {
+            Assert.assertEquals("6", firstColumn(reader.readLine(7)));
+        }
+    }
+
+    @Test
+    public void mustIgnoreTruncatedIndex() throws IOException {
+        Path path = createFileWithContent(CONTENT);
+        LineIndex.build(path, StandardCharsets.UTF_8, 3);
+        Path sidecarPath = LineIndex.getSidecarPath(path);
+        byte[] index = Files.readAllBytes(sidecarPath);
+
+        for (int length : new int[]{0, 3, 20, index.length - 1}) {
+            Files.write(sidecarPath, Arrays.copyOf(index, length));
+            Assert.assertNull(LineIndex.find(path));
+
+            try (JFileReader reader = JFileReaderFactory.newUtf8JFileReader(path, ";")) {
+                Assert.assertEquals("9", firstColumn(reader.readLine(9)));
+
+                Iterator<LineValue> iterator = reader.iterator();
+                reader.seekToLine(7);
+                Assert.assertEquals("7", firstColumn(iterator.next()));
+            }
+        }
+    }
+
+    @Test
+    public void mustIgnoreIndexWithOffsetsOutOfTheFile() throws IOException {
+        Path path = createFileWithContent(CONTENT);
+        LineIndex.build(path, StandardCharsets.UTF_8, 3);
+        Path sidecarPath = LineIndex.getSidecarPath(path);
+        byte[] index = Files.readAllBytes(sidecarPath);
+
+        index[index.length - 1] = 0x7F;
+        Files.write(sidecarPath, index);
+
+        Assert.assertNull(LineIndex.find(path));
+
+        try (JFileReader reader = JFileReaderFactory.newUtf8JFileReader(path, ";")) {
+            Assert.assertEquals("10", firstColumn(reader.readLine(10)));
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void mustReportLineAfterEndOfFile() throws IOException {
+        Path path = createFileWithContent(CONTENT);
+
+        try (JFileReader reader = JFileReaderFactory.newUtf8JFileReader(path, ";")) {
+            reader.readLine(11);
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void mustNotSeekInputStream() throws IOException {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        try (JFileReader reader = JFileReaderFactory.newUtf8JFileReader(inputStream, ";")) {
+            reader.seekToLine(2);
+        }
+    }
+
+    private static String firstColumn(LineValue lineValue) {
+        return lineValue.hasColumnValue(1) ? lineValue.getColumnValue(1).getText() : "";
+    }
+
+}
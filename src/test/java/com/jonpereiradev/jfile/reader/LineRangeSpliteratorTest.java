@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.file.LineValue;
+import com.jonpereiradev.jfile.reader.infrastructure.AbstractFileReaderTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+
+public class LineRangeSpliteratorTest extends AbstractFileReaderTest {
+
+    private static final int NUMBER_OF_LINES = 1000;
+
+    @Test
+    public void mustSplitInRangesWithExactLineNumbers() throws IOException {
+        Path path = createFileWithLineNumbers();
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";");
+
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Spliterator<LineValue> spliterator = new LineRangeSpliterator(readerConfig, fileChannel, 64);
+
+            Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+
+            Spliterator<LineValue> prefix = spliterator.trySplit();
+            Assert.assertNotNull(prefix);
+            Assert.assertTrue(prefix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+            Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+            Assert.assertEquals(NUMBER_OF_LINES, prefix.estimateSize() + spliterator.estimateSize());
+
+            List<LineValue> lines = StreamSupport
+                .stream(new LineRangeSpliterator(readerConfig, fileChannel, 64), true)
+                .collect(Collectors.toList());
+
+            Assert.assertEquals(NUMBER_OF_LINES, lines.size());
+
+            for (int i = 0; i < NUMBER_OF_LINES; i++) {
+                LineValue lineValue = lines.get(i);
+                Assert.assertEquals(i + 1, lineValue.getLineNumber());
+                Assert.assertEquals(String.valueOf(i + 1), lineValue.getColumnValue(1).getText());
+            }
+        }
+    }
+
+    @Test
+    public void mustReadSequentiallyWithoutCounting() throws IOException {
+        Path path = createFileWithLineNumbers();
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";");
+
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, readerConfig)) {
+            Assert.assertEquals(NUMBER_OF_LINES, reader.stream().parallel().count());
+            Assert.assertEquals(NUMBER_OF_LINES, reader.stream().mapToLong(LineValue::getLineNumber).max().getAsLong());
+        }
+    }
+
+    @Test
+    public void mustNotCountTheLinesOfASequentialPipeline() throws IOException {
+        Path path = createFileWithLineNumbers();
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";");
+
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            LineRangeSpliterator spliterator = new LineRangeSpliterator(readerConfig, fileChannel, 64);
+            long estimatedSize = spliterator.estimateSize();
+
+            Assert.assertTrue(estimatedSize > NUMBER_OF_LINES / 2 && estimatedSize < NUMBER_OF_LINES * 2);
+            Assert.assertEquals(
+                NUMBER_OF_LINES / 2,
+                StreamSupport.stream(spliterator, false).filter(o -> o.getLineNumber() % 2 == 0).count()
+            );
+            Assert.assertFalse(spliterator.isPartitioned());
+        }
+    }
+
+    @Test
+    public void mustNotBeImmutableWithReusableLineValue() throws IOException {
+        Path path = createFileWithLineNumbers();
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";");
+
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Spliterator<LineValue> spliterator = new LineRangeSpliterator(readerConfig, fileChannel);
+            Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+
+            readerConfig.reusableLineValue(true);
+            Spliterator<LineValue> reusableSpliterator = new LineRangeSpliterator(readerConfig, fileChannel);
+            Assert.assertFalse(reusableSpliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        }
+    }
+
+    private static Path createFileWithLineNumbers() throws IOException {
+        StringBuilder content = new StringBuilder();
+
+        for (int i = 1; i <= NUMBER_OF_LINES; i++) {
+            content.append(i).append(SEPARATOR).append("line ").append(i).append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+
+        return createFileWithContent(content.toString());
+    }
+
+}
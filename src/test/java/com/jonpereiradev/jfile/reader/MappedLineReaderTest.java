@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.infrastructure.AbstractFileReaderTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+public class MappedLineReaderTest extends AbstractFileReaderTest {
+
+    @Test
+    public void mustReadLinesAcrossWindows() throws IOException {
+        Path path = createFileWithContent("first line\r\nsecond\rthird line is longer than the window\nçã\n");
+
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            LineReader lineReader = new MappedLineReader(fileChannel, StandardCharsets.UTF_8, 4);
+
+            Assert.assertEquals("first line", lineReader.readLine());
+            Assert.assertEquals("second", lineReader.readLine());
+            Assert.assertEquals("third line is longer than the window", lineReader.readLine());
+            Assert.assertEquals("çã", lineReader.readLine());
+            Assert.assertNull(lineReader.readLine());
+        }
+    }
+
+    @Test
+    public void mustNotSupportMultiByteLineTerminators() {
+        Assert.assertTrue(MappedLineReader.isSupported(StandardCharsets.UTF_8));
+        Assert.assertTrue(MappedLineReader.isSupported(StandardCharsets.ISO_8859_1));
+        Assert.assertFalse(MappedLineReader.isSupported(StandardCharsets.UTF_16));
+    }
+
+}
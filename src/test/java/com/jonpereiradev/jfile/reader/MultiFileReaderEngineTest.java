@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.file.LineValue;
+import com.jonpereiradev.jfile.reader.file.SourceLineValue;
+import com.jonpereiradev.jfile.reader.infrastructure.AbstractFileReaderTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+public class MultiFileReaderEngineTest extends AbstractFileReaderTest {
+
+    private static final int FILES = 6;
+    private static final int LINES = 1000;
+
+    @Test
+    public void mustMergeFilesInOrder() throws IOException {
+        Path directory = createPartitionedFiles();
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";").fileParallelism(3);
+        List<String> expected = new ArrayList<>();
+
+        for (int file = 0; file < FILES; file++) {
+            for (int line = 1; line <= LINES; line++) {
+                expected.add("part-" + file + ".csv:" + line);
+            }
+        }
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(directory, "part-*.csv", readerConfig)) {
+            List<String> lines = fileReader.stream()
+                .map(MultiFileReaderEngineTest::describe)
+                .collect(Collectors.toList());
+            Assert.assertEquals(expected, lines);
+        }
+    }
+
+    @Test
+    public void mustMergeFilesUnordered() throws IOException {
+        Path directory = createPartitionedFiles();
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";")
+            .reusableLineValue(true)
+            .orderedFiles(false);
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(directory, "*.csv", readerConfig)) {
+            List<String> lines = fileReader.stream()
+                .map(MultiFileReaderEngineTest::describe)
+                .collect(Collectors.toList());
+
+            Assert.assertEquals(FILES * LINES + 2, lines.size());
+            Assert.assertTrue(lines.contains("other.csv:2"));
+
+            for (int file = 0; file < FILES; file++) {
+                String prefix = "part-" + file + ".csv:";
+                List<String> fileLines = lines.stream().filter(o -> o.startsWith(prefix)).collect(Collectors.toList());
+                List<String> expected = IntStream.rangeClosed(1, LINES)
+                    .mapToObj(line -> prefix + line)
+                    .collect(Collectors.toList());
+
+                Assert.assertEquals(expected, fileLines);
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void mustReportFailureOfAFile() throws IOException {
+        Path directory = Files.createTempDirectory("jfile");
+        Path file = Files.write(directory.resolve("a.csv"), "1;a".getBytes(StandardCharsets.UTF_8));
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";");
+
+        try (JFileReader fileReader = JFileReaderFactory.newJFileReader(Arrays.asList(file, file), readerConfig)) {
+            Files.delete(file);
+            fileReader.iterator().hasNext();
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void mustStopTheThreadsOfAnAbandonedReader() throws Exception {
+        Path directory = Files.createTempDirectory("jfile");
+        String content = IntStream.rangeClosed(1, LINES * 10)
+            .mapToObj(line -> line + ";a")
+            .collect(Collectors.joining("\n"));
+
+        for (int file = 0; file < 2; file++) {
+            Files.write(directory.resolve("big-" + file + ".csv"), content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        readFirstLineWithoutClosing(directory);
+
+        while (countFileThreads() > 0) {
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+    }
+
+    @Test
+    public void mustReportMissingFile() throws IOException {
+        Path missing = Files.createTempDirectory("jfile").resolve("missing.csv");
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";");
+
+        try {
+            JFileReaderFactory.newJFileReader(Arrays.asList(missing), readerConfig);
+            Assert.fail("The missing file must be reported");
+        } catch (IOException e) {
+            Assert.assertEquals("File not found or not readable: " + missing, e.getMessage());
+        }
+    }
+
+    private static void readFirstLineWithoutClosing(Path directory) throws IOException {
+        JFileReaderConfig readerConfig = JFileReaderFactory.newUtf8ReaderConfig(";").fileParallelism(2);
+        JFileReader fileReader = JFileReaderFactory.newJFileReader(directory, "big-*.csv", readerConfig);
+
+        Assert.assertEquals(1, fileReader.iterator().next().getLineNumber());
+        Assert.assertTrue(countFileThreads() > 0);
+    }
+
+    private static long countFileThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().startsWith("jfile-reader-files-"))
+            .count();
+    }
+
+    private static Path createPartitionedFiles() throws IOException {
+        Path directory = Files.createTempDirectory("jfile");
+
+        for (int file = 0; file < FILES; file++) {
+            int partition = file;
+            String content = IntStream.rangeClosed(1, LINES)
+                .mapToObj(line -> line + ";" + partition)
+                .collect(Collectors.joining("\n"));
+
+            Files.write(directory.resolve("part-" + file + ".csv"), content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        Files.write(directory.resolve("other.csv"), "1;x\n2;y".getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("empty.csv"), new byte[0]);
+
+        return directory;
+    }
+
+    private static String describe(LineValue lineValue) {
+        SourceLineValue sourceLineValue = (SourceLineValue) lineValue;
+        Assert.assertEquals(lineValue.getLineNumber(), lineValue.getColumnValue(1).getInt().intValue());
+        return sourceLineValue.getSource().getFileName() + ":" + lineValue.getLineNumber();
+    }
+
+}
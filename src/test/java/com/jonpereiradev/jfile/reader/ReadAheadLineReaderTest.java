@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import com.jonpereiradev.jfile.reader.file.LineValue;
+import com.jonpereiradev.jfile.reader.infrastructure.AbstractFileReaderTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+
+public class ReadAheadLineReaderTest extends AbstractFileReaderTest {
+
+    private static final int NUMBER_OF_LINES = 2000;
+
+    @Test
+    public void mustKeepLineOrderWithAllWaitStrategies() throws IOException {
+        Path path = createFileWithLineNumbers();
+
+        for (ReadAheadWaitStrategy waitStrategy : ReadAheadWaitStrategy.values()) {
+            JFileReaderConfig readerConfig = JFileReaderFactory
+                .newUtf8ReaderConfig(";")
+                .readAhead(64)
+                .readAheadWaitStrategy(waitStrategy);
+
+            assertAllLinesInOrder(path, readerConfig);
+        }
+    }
+
+    @Test
+    public void mustKeepReusableLineValidUntilNextLine() throws IOException {
+        Path path = createFileWithLineNumbers();
+        JFileReaderConfig readerConfig = JFileReaderFactory
+            .newUtf8ReaderConfig(";")
+            .readAhead(2)
+            .reusableLineValue(true);
+
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, readerConfig)) {
+            Iterator<LineValue> iterator = reader.iterator();
+            int lineNumber = 0;
+
+            while (iterator.hasNext()) {
+                LineValue lineValue = iterator.next();
+                Assert.assertTrue(iterator.hasNext() || lineNumber == NUMBER_OF_LINES - 1);
+                Assert.assertEquals(String.valueOf(++lineNumber), lineValue.getColumnValue(1).getText());
+            }
+
+            Assert.assertEquals(NUMBER_OF_LINES, lineNumber);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mustRejectDepthSmallerThanTwo() {
+        JFileReaderFactory.newUtf8ReaderConfig(";").readAhead(1);
+    }
+
+    private static void assertAllLinesInOrder(Path path, JFileReaderConfig readerConfig) throws IOException {
+        try (JFileReader reader = JFileReaderFactory.newJFileReader(path, readerConfig)) {
+            int lineNumber = 0;
+
+            for (LineValue lineValue : reader) {
+                lineNumber++;
+                Assert.assertEquals(lineNumber, lineValue.getLineNumber());
+                Assert.assertEquals(String.valueOf(lineNumber), lineValue.getColumnValue(1).getText());
+            }
+
+            Assert.assertEquals(NUMBER_OF_LINES, lineNumber);
+        }
+    }
+
+    private static Path createFileWithLineNumbers() throws IOException {
+        StringBuilder content = new StringBuilder();
+
+        for (int i = 1; i <= NUMBER_OF_LINES; i++) {
+            content.append(i).append(SEPARATOR).append("line ").append(i).append('\n');
+        }
+
+        return createFileWithContent(content.toString());
+    }
+
+}
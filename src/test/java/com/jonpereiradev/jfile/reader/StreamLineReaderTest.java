@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader;
+
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+public class StreamLineReaderTest {
+
+    private static final String LONG_LINE = String.join("", Collections.nCopies(20000, "abcdé"));
+
+    private static final String[] CONTENTS = {
+        "",
+        "a",
+        "a\n",
+        "a\r\nb\rc\n\nd",
+        "\r\n\r\n",
+        "ascii;line\nçã;utf\r\nfim",
+        LONG_LINE + "\n" + LONG_LINE.replace('é', 'e') + "\r\n"
+    };
+
+    @Test
+    public void mustReadLinesLikeBufferedReader() throws IOException {
+        for (Charset charset : Arrays.asList(StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1)) {
+            for (String content : CONTENTS) {
+                byte[] bytes = content.getBytes(charset);
+                LineReader lineReader = new StreamLineReader(new ByteArrayInputStream(bytes), charset);
+                BufferedReader bufferedReader = new BufferedReader(
+                    new InputStreamReader(new ByteArrayInputStream(bytes), charset));
+
+                Assert.assertEquals(readLines(bufferedReader), readLines(lineReader));
+            }
+        }
+    }
+
+    @Test
+    public void mustTrackThePositionOfTheNextLine() throws IOException {
+        byte[] bytes = "a\r\nb\rc\n\nd\r\n".getBytes(StandardCharsets.UTF_8);
+        // one byte per read, so a CR is found at the end of the buffer before its LF is read
+        InputStream inputStream = new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(1, length));
+            }
+        };
+
+        LineReader lineReader = new StreamLineReader(inputStream, StandardCharsets.UTF_8);
+        List<Long> positions = new ArrayList<>();
+        List<Long> lineOffsets = new ArrayList<>();
+
+        Assert.assertEquals(0, lineReader.getPosition());
+
+        while (lineReader.readLine() != null) {
+            lineOffsets.add(lineReader.getLineOffset());
+            positions.add(lineReader.getPosition());
+        }
+
+        Assert.assertEquals(Arrays.asList(0L, 3L, 5L, 7L, 8L), lineOffsets);
+        Assert.assertEquals(Arrays.asList(3L, 5L, 7L, 8L, 11L), positions);
+    }
+
+    @Test
+    public void mustWidenOnlyAsciiCompatibleCharsets() {
+        Assert.assertTrue(LineDecoder.isAsciiCompatible(StandardCharsets.UTF_8));
+        Assert.assertTrue(LineDecoder.isAsciiCompatible(StandardCharsets.US_ASCII));
+        Assert.assertFalse(LineDecoder.isAsciiCompatible(StandardCharsets.UTF_16));
+        Assert.assertFalse(LineDecoder.isAsciiCompatible(Charset.forName("IBM037")));
+
+        byte[] bytes = "é".getBytes(StandardCharsets.ISO_8859_1);
+        Assert.assertEquals("é", new LineDecoder(StandardCharsets.ISO_8859_1).decode(bytes, 0, bytes.length));
+    }
+
+    private static List<String> readLines(LineReader lineReader) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+
+        while ((line = lineReader.readLine()) != null) {
+            lines.add(line);
+        }
+
+        return lines;
+    }
+
+    private static List<String> readLines(BufferedReader bufferedReader) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+
+        while ((line = bufferedReader.readLine()) != null) {
+            lines.add(line);
+        }
+
+        return lines;
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.file;
+
+
+import com.jonpereiradev.jfile.reader.JFilePatternConfig;
+import com.jonpereiradev.jfile.reader.JFileReaderFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+
+public class ColumnValueTest {
+
+    private static final JFilePatternConfig PATTERN_CONFIG = JFileReaderFactory.newUtf8ReaderConfig(";");
+
+    @Test
+    public void mustParsePrimitivesLikeTheBoxedValues() {
+        List<String> integers = Arrays.asList(
+            "0", "-0", "+7", "-42", "123456789", "2147483647", "-2147483648", "9223372036854775807",
+            "-9223372036854775808", "0012", "\u0661\u0662"
+        );
+
+        for (String text : integers) {
+            ColumnValue columnValue = newColumnValue(text);
+            Assert.assertEquals(text, parse(() -> Long.valueOf(text)), parse(columnValue::getAsLong));
+            Assert.assertEquals(text, parse(() -> Integer.valueOf(text)), parse(columnValue::getAsInt));
+            Assert.assertEquals(text, parse(() -> Integer.valueOf(text)), parse(columnValue::getInt));
+        }
+
+        List<String> decimals = Arrays.asList(
+            "0.1", "-0.0", "3.14159", "1.", ".5", "+2.50", "123456789012345.6", "0.30000000000000004", "1e10",
+            "-1.5E-3", "NaN", "Infinity", "1.0d", "0x10p0"
+        );
+
+        for (String text : decimals) {
+            ColumnValue columnValue = newColumnValue(text);
+            Assert.assertEquals(text, parse(() -> Double.valueOf(text)), parse(columnValue::getAsDouble));
+            Assert.assertEquals(text, parse(() -> Double.valueOf(text)), parse(columnValue::getDouble));
+        }
+    }
+
+    @Test
+    public void mustRejectInvalidNumbers() {
+        for (String text : Arrays.asList("-", "+", "1-", "12a", "2147483648", "1.2.3", ".", "1,5")) {
+            ColumnValue columnValue = newColumnValue(text);
+            Assert.assertEquals(text, parse(() -> Integer.valueOf(text)), parse(columnValue::getAsInt));
+            Assert.assertEquals(text, parse(() -> Double.valueOf(text)), parse(columnValue::getAsDouble));
+        }
+    }
+
+    @Test
+    public void mustReturnTheDefaultValueOfAnEmptyColumn() {
+        ColumnValue columnValue = newColumnValue("  ");
+
+        Assert.assertEquals(ColumnValue.NULL_INT, columnValue.getAsInt());
+        Assert.assertEquals(ColumnValue.NULL_LONG, columnValue.getAsLong());
+        Assert.assertTrue(Double.isNaN(columnValue.getAsDouble()));
+        Assert.assertEquals(-1, columnValue.getAsInt(-1));
+        Assert.assertEquals(-1L, columnValue.getAsLong(-1L));
+        Assert.assertEquals(0.5, columnValue.getAsDouble(0.5), 0);
+        Assert.assertTrue(columnValue.getAsBoolean(true));
+        Assert.assertTrue(newColumnValue("1").getAsBoolean(false));
+        Assert.assertFalse(newColumnValue("no").getAsBoolean(true));
+        Assert.assertTrue(newColumnValue("maybe").getAsBoolean(true));
+    }
+
+    @Test
+    public void mustTryParseWithTheSameResultOfTheParsers() {
+        List<String> texts = Arrays.asList(
+            "0", "-12", "+7", "32768", "-32768", "2147483648", "9223372036854775808", "\u0661\u0662", "-", "1.5",
+            "1.", ".5", ".", "1e5", "1e", "-1.5E-3f", "2d", "NaN", "-Infinity", "Infinityx", "0x1.8p1", "0x1.8",
+            "0xp1", "1_000", "abc", "t", "yes", "2020-02-29", "2020-02-30", "2020-13-01", "2021-02-28T10:15:30"
+        );
+
+        for (String text : texts) {
+            ColumnValue columnValue = newColumnValue(text);
+            assertParsedLike(text, columnValue::getShort, columnValue.tryParse(Short.class));
+            assertParsedLike(text, columnValue::getInt, columnValue.tryParse(int.class));
+            assertParsedLike(text, columnValue::getLong, columnValue.tryParse(Long.class));
+            assertParsedLike(text, columnValue::getFloat, columnValue.tryParse(Float.class));
+            assertParsedLike(text, columnValue::getDouble, columnValue.tryParse(double.class));
+            assertParsedLike(text, columnValue::getBigInteger, columnValue.tryParse(BigInteger.class));
+            assertParsedLike(text, columnValue::getBigDecimal, columnValue.tryParse(BigDecimal.class));
+            assertParsedLike(text, columnValue::getCharacter, columnValue.tryParse(Character.class));
+            assertParsedLike(text, columnValue::getBoolean, columnValue.tryParse(Boolean.class));
+            assertParsedLike(text, columnValue::getLocalDate, columnValue.tryParse(LocalDate.class));
+            assertParsedLike(text, columnValue::getLocalDateTime, columnValue.tryParse(LocalDateTime.class));
+        }
+
+        Assert.assertTrue(newColumnValue("").tryParse(Integer.class).isEmpty());
+        Assert.assertTrue(newColumnValue("x").tryParse(Integer.class).isInvalid());
+        Assert.assertEquals(Integer.valueOf(3), newColumnValue("x").tryParse(Integer.class).orElse(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mustRejectTryParseOfUnsupportedType() {
+        newColumnValue("1").tryParse(Object.class);
+    }
+
+    @Test
+    public void mustParseIsoDatesLikeTheFormatters() {
+        List<String> texts = Arrays.asList(
+            "2020-02-29", "2021-02-29", "2020-04-31", "0000-01-01", "9999-12-31", "+10000-01-01", "2020-1-01",
+            "2020/01/01", "2020-00-10", "2020-13-01", "2020-01-00", "2020-01-32", "2020-01-0a", "\u0662020-01-01",
+            "2020-02-29T10:15", "2020-02-29T10:15:30", "2020-02-29T10:15:30.1", "2020-02-29T10:15:30.123456789",
+            "2020-02-29T10:15:30.1234567890", "2020-02-29T10:15:30.", "2020-02-29t10:15:30", "2020-02-29T24:00",
+            "2020-02-29T23:60", "2020-02-29T23:59:60", "2020-02-29T1:15", "2020-02-29T10:15:3", "2020-02-30T10:15",
+            "2020-02-29T10-15"
+        );
+
+        for (String text : texts) {
+            ColumnValue columnValue = newColumnValue(text);
+            Object localDate = parse(() -> LocalDate.parse(text, DateTimeFormatter.ISO_LOCAL_DATE));
+            Object localDateTime = parse(() -> LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+
+            Assert.assertEquals(text, localDate, parse(columnValue::getLocalDate));
+            Assert.assertEquals(text, localDateTime, parse(columnValue::getLocalDateTime));
+            assertParsedLike(text, () -> localDate, newColumnValue(text).tryParse(LocalDate.class));
+            assertParsedLike(text, () -> localDateTime, newColumnValue(text).tryParse(LocalDateTime.class));
+        }
+    }
+
+    @Test
+    public void mustParseFormattedDatesLikeTheFormatters() {
+        List<DateTimeFormatter> formatters = Arrays.asList(
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+            DateTimeFormatter.ofPattern("dd/MM/uuuu").withResolverStyle(ResolverStyle.STRICT),
+            DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.ENGLISH)
+        );
+        List<String> texts = Arrays.asList(
+            "29/02/2020", "29/02/2021", "31/04/2020", "32/01/2020", "01/13/2020", "1/01/2020",
+            "01/01/2020x", "01-01-2020", "29 Feb 2020", "30 Feb 2020", "29 Fev 2020", "x"
+        );
+
+        for (DateTimeFormatter formatter : formatters) {
+            for (String text : texts) {
+                assertParsedLike(
+                    text,
+                    () -> LocalDate.parse(text, formatter),
+                    newColumnValue(text).tryParseLocalDate(formatter)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void mustParseWithTheGettersOfTheDefaultMethods() {
+        Assert.assertTrue(ParsedValue.fromGetter(" ", () -> 1).isEmpty());
+        Assert.assertTrue(ParsedValue.fromGetter("a", () -> null).isEmpty());
+        Assert.assertEquals(Integer.valueOf(1), ParsedValue.fromGetter("1", () -> 1).get());
+        Assert.assertTrue(ParsedValue.fromGetter("a", () -> Integer.valueOf("a")).isInvalid());
+        Assert.assertTrue(ParsedValue.fromGetter("a", () -> LocalDate.parse("a")).isInvalid());
+    }
+
+    @Test
+    public void mustReuseTheLastParsedValue() {
+        ColumnValue bigDecimalColumn = newColumnValue("10.5");
+        BigDecimal bigDecimal = bigDecimalColumn.getBigDecimal();
+        Assert.assertSame(bigDecimal, bigDecimalColumn.tryParse(BigDecimal.class).get());
+        Assert.assertSame(bigDecimal, bigDecimalColumn.getBigDecimal());
+
+        ColumnValue localDateColumn = newColumnValue("2020-02-29");
+        LocalDate localDate = localDateColumn.tryParse(LocalDate.class).get();
+        Assert.assertSame(localDate, localDateColumn.getLocalDate());
+        Assert.assertEquals(DateTimeParseException.class, parse(localDateColumn::getLocalDateTime));
+
+        ColumnValue integerColumn = newColumnValue("100000");
+        Integer integer = integerColumn.getInt();
+        Assert.assertSame(integer, integerColumn.tryParse(Integer.class).get());
+        Assert.assertEquals(100000L, integerColumn.getAsLong());
+        Assert.assertEquals(100000, integerColumn.getAsInt());
+    }
+
+    private static void assertParsedLike(String text, Parser parser, ParsedValue<?> parsedValue) {
+        Object expected = parse(parser);
+
+        if (expected instanceof Class) {
+            Assert.assertTrue(text + " must be invalid", parsedValue.isInvalid());
+        } else if (expected == null) {
+            Assert.assertFalse(text + " must not be parsed", parsedValue.isPresent());
+        } else {
+            Assert.assertEquals(text, expected, parsedValue.get());
+        }
+    }
+
+    private static ColumnValue newColumnValue(String text) {
+        return ColumnValue.newColumnValue(PATTERN_CONFIG, 1, text);
+    }
+
+    /**
+     * @return the value parsed, or the class of the exception thrown, so the results and errors can be compared.
+     */
+    private static Object parse(Parser parser) {
+        try {
+            return parser.parse();
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    private interface Parser {
+
+        Object parse();
+
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.file;
+
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+
+public class LineValueTest {
+
+    @Test
+    public void mustProvideDefaultsForTheMethodsAddedToTheInterface() {
+        SortedSet<ColumnValue> columnValues = new TreeSet<>();
+        columnValues.add(ColumnValue.newColumnValue(null, 1, "a"));
+
+        LineValue lineValue = new LineValue() {
+
+            @Override
+            public long getLineNumber() {
+                return 1;
+            }
+
+            @Override
+            public String getContent() {
+                return "a";
+            }
+
+            @Override
+            public ColumnValue getColumnValue(int columnNumber) {
+                return columnNumber == 1 ? columnValues.first() : null;
+            }
+
+            @Override
+            public SortedSet<ColumnValue> getColumnValues() {
+                return columnValues;
+            }
+
+            @Override
+            public int compareTo(LineValue o) {
+                return Long.compare(getLineNumber(), o.getLineNumber());
+            }
+
+        };
+
+        Assert.assertEquals(-1, lineValue.getOffset());
+        Assert.assertTrue(lineValue.hasColumnValue(1));
+        Assert.assertFalse(lineValue.hasColumnValue(2));
+        Assert.assertSame(lineValue, lineValue.copy());
+    }
+
+}
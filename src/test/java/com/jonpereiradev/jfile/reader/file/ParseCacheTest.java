@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.file;
+
+
+import com.jonpereiradev.jfile.reader.JFilePatternConfig;
+import com.jonpereiradev.jfile.reader.JFileReaderFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+
+public class ParseCacheTest {
+
+    @Test
+    public void mustShareTheParsedValuesBetweenColumns() {
+        JFilePatternConfig<?> patternConfig = JFileReaderFactory.newUtf8ReaderConfig(";").parseCache(10);
+        String dateText = patternConfig.getDateFormat().format(new Date(0));
+
+        LocalDate localDate = ColumnValue.newColumnValue(patternConfig, 1, "2020-02-29").getLocalDate();
+        BigDecimal bigDecimal = ColumnValue.newColumnValue(patternConfig, 2, "10.5").getBigDecimal();
+        Date date = ColumnValue.newColumnValue(patternConfig, 3, dateText).getDate();
+
+        Assert.assertSame(localDate, ColumnValue.newColumnValue(patternConfig, 4, "2020-02-29").getLocalDate());
+        ColumnValue localDateColumn = ColumnValue.newColumnValue(patternConfig, 5, "2020-02-29");
+        Assert.assertSame(localDate, localDateColumn.tryParse(LocalDate.class).get());
+        Assert.assertSame(bigDecimal, ColumnValue.newColumnValue(patternConfig, 6, "10.5").getBigDecimal());
+
+        Date cachedDate = ColumnValue.newColumnValue(patternConfig, 7, dateText).getDate();
+        Assert.assertEquals(date, cachedDate);
+        Assert.assertNotSame(date, cachedDate);
+        Assert.assertEquals(3, patternConfig.getParseCache().size());
+    }
+
+    @Test
+    public void mustKeepTheValuesByFormatterIdentity() {
+        JFilePatternConfig<?> patternConfig = JFileReaderFactory.newUtf8ReaderConfig(";").parseCache(10);
+        DecimalFormat decimalFormat = new DecimalFormat("#,##0.0#");
+        decimalFormat.setParseBigDecimal(true);
+
+        ColumnValue.newColumnValue(patternConfig, 1, "1,000.5").getBigDecimal();
+
+        Assert.assertEquals(
+            new BigDecimal("1000.5"),
+            ColumnValue.newColumnValue(patternConfig, 1, "1,000.5").getBigDecimal(decimalFormat)
+        );
+        Assert.assertNull(patternConfig.getParseCache().get(LocalDate.class, decimalFormat, "1,000.5"));
+        Assert.assertNotNull(patternConfig.getParseCache().get(BigDecimal.class, decimalFormat, "1,000.5"));
+    }
+
+    @Test
+    public void mustEvictTheLeastRecentlyUsedValues() {
+        ParseCache parseCache = ParseCache.newParseCache(1);
+        DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE;
+
+        parseCache.put(formatter, "2020-01-01", LocalDate.of(2020, 1, 1));
+        parseCache.put(formatter, "2020-01-02", LocalDate.of(2020, 1, 2));
+
+        Assert.assertEquals(1, parseCache.size());
+        Assert.assertNull(parseCache.get(LocalDate.class, formatter, "2020-01-01"));
+        Assert.assertEquals(LocalDate.of(2020, 1, 2), parseCache.get(LocalDate.class, formatter, "2020-01-02"));
+
+        ParseCache segmentedCache = ParseCache.newParseCache(1000);
+
+        for (int i = 0; i < 10000; i++) {
+            segmentedCache.put(formatter, String.valueOf(i), LocalDate.ofEpochDay(i));
+        }
+
+        Assert.assertTrue(segmentedCache.size() <= segmentedCache.getMaximumSize());
+    }
+
+    @Test
+    public void mustBeDisabledByDefault() {
+        JFilePatternConfig<?> patternConfig = JFileReaderFactory.newUtf8ReaderConfig(";");
+        Assert.assertNull(patternConfig.getParseCache());
+        Assert.assertNull(patternConfig.parseCache(5).parseCache(0).getParseCache());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mustRejectNegativeMaximumSize() {
+        JFileReaderFactory.newUtf8ReaderConfig(";").parseCache(-1);
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Jonathan de Almeida Pereira
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.jonpereiradev.jfile.reader.tokenizer;
+
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+
+public class LineTokenizerTest {
+
+    private static final String[] CONTENTS = {"", ";", ";;", "a", "a;b", ";a;b", "a;;b", "a;b;", "a;b;;", " a ; b "};
+
+    @Test
+    public void mustSplitLikePatternWithSingleCharDelimiter() {
+        assertSplitLikePattern(";", LineTokenizer.newDelimiterTokenizer(";"), CONTENTS);
+    }
+
+    @Test
+    public void mustSplitLikePatternWithMultiCharDelimiter() {
+        String[] contents = {"", "::", "a", "a::b", "::a::b", "a::::b", "a::b::", "a:b::c:"};
+        assertSplitLikePattern("::", LineTokenizer.newDelimiterTokenizer("::"), contents);
+    }
+
+    @Test
+    public void mustSplitLikePatternWithRegex() {
+        assertSplitLikePattern("\\s*;\\s*", LineTokenizer.newPatternTokenizer(Pattern.compile("\\s*;\\s*")), CONTENTS);
+        assertSplitLikePattern("", LineTokenizer.newPatternTokenizer(Pattern.compile("")), CONTENTS);
+    }
+
+    @Test
+    public void mustSplitLikePatternWithQuotedTokenizerWithoutQuotes() {
+        assertSplitLikePattern(";", LineTokenizer.newQuotedTokenizer(";", '"', '"'), CONTENTS);
+    }
+
+    @Test
+    public void mustUnescapeQuotedColumns() {
+        LineTokenizer lineTokenizer = LineTokenizer.newQuotedTokenizer(";", '"', '"');
+
+        assertColumns(lineTokenizer, "\"a;b\";c", "a;b", "c");
+        assertColumns(lineTokenizer, "a;\"b \"\"c\"\"\";\"\";d", "a", "b \"c\"", "", "d");
+        assertColumns(lineTokenizer, "\"a\"b;\"\"\"\"", "ab", "\"");
+        assertColumns(lineTokenizer, "\"a\nb\";c", "a\nb", "c");
+    }
+
+    @Test
+    public void mustUnescapeQuotedColumnsWithEscapeCharacter() {
+        LineTokenizer lineTokenizer = LineTokenizer.newQuotedTokenizer("::", '\'', '\\');
+
+        assertColumns(lineTokenizer, "'a\\'b'::'c\\\\'::d\\e", "a'b", "c\\", "d\\e");
+    }
+
+    @Test
+    public void mustReportUnterminatedQuotedColumn() {
+        LineTokenizer lineTokenizer = LineTokenizer.newQuotedTokenizer(";", '"', '"');
+        LineTokens lineTokens = new LineTokens();
+
+        lineTokenizer.tokenize("a;\"b;c", lineTokens);
+        Assert.assertTrue(lineTokens.isIncomplete());
+        Assert.assertEquals("b;c", lineTokens.getColumn(1));
+
+        lineTokenizer.tokenize("a;\"b\";c", lineTokens);
+        Assert.assertFalse(lineTokens.isIncomplete());
+    }
+
+    @Test
+    public void mustScanContinuationLinesLikeTheJoinedRecord() {
+        LineTokenizer lineTokenizer = LineTokenizer.newQuotedTokenizer(";", '"', '"');
+        LineTokenizer escapeTokenizer = LineTokenizer.newQuotedTokenizer("::", '\'', '\\');
+        String[] lines = {"", "a", "\"", "\"\"", "a\";b", "a\";\"b", "a\";\"b\";c", "\"\";\"", "a\"b;\"c", "a\";b\"c"};
+        String[] escapeLines = {"", "\\'", "\\\\'", "a'::'b", "a'b::'c", "\\", "'::"};
+
+        assertContinuationScan(lineTokenizer, "1;\"x", lines);
+        assertContinuationScan(escapeTokenizer, "1::'x", escapeLines);
+    }
+
+    @Test
+    public void mustStopAfterColumnLimit() {
+        assertColumns(LineTokenizer.newDelimiterTokenizer(";").limit(2), "a;b;c;d", "a", "b");
+        assertColumns(LineTokenizer.newDelimiterTokenizer("::").limit(2), "a::::b", "a", "");
+        assertColumns(LineTokenizer.newDelimiterTokenizer(";").limit(3), "a;b;;", "a", "b", "");
+        assertColumns(LineTokenizer.newDelimiterTokenizer(";").limit(4), "a;b;;", "a", "b");
+        assertColumns(LineTokenizer.newPatternTokenizer(Pattern.compile("\\s*;\\s*")).limit(1), "a ; b", "a");
+        assertColumns(LineTokenizer.newFixedWidthTokenizer(
+            FixedWidthLayout.newLayout().column(1, 0, 1).column(2, 1, 2)).limit(1), "abc", "a");
+    }
+
+    @Test
+    public void mustStopAfterColumnLimitOfEachRecordType() {
+        MultiRecordLayout layout = MultiRecordLayout.newLayout(0)
+            .record("1", FixedWidthLayout.newLayout().column(1, 0, 1).column(2, 1, 2).column(3, 3, 2));
+        LineTokenizer lineTokenizer = LineTokenizer.newMultiRecordTokenizer(layout).limit(2);
+
+        layout.record("2", FixedWidthLayout.newLayout().column(1, 0, 1).column(2, 1, 1).column(3, 2, 1));
+
+        assertColumns(lineTokenizer, "1abcd", "1", "ab");
+        assertColumns(lineTokenizer, "2xyz", "2", "x");
+        assertColumns(lineTokenizer, "9xyz", "9xyz");
+    }
+
+    private static void assertColumns(LineTokenizer lineTokenizer, String content, String... expected) {
+        LineTokens lineTokens = new LineTokens();
+        lineTokenizer.tokenize(content, lineTokens);
+
+        Assert.assertEquals("Columns of '" + content + "'", expected.length, lineTokens.size());
+
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals("Column of '" + content + "'", expected[i], lineTokens.getColumn(i));
+        }
+    }
+
+    private static void assertContinuationScan(LineTokenizer lineTokenizer, String first, String[] lines) {
+        LineTokens lineTokens = new LineTokens();
+
+        for (String line : lines) {
+            lineTokenizer.tokenize(first + "\n" + line, lineTokens);
+            Assert.assertEquals("Continuation '" + line + "'", lineTokens.isIncomplete(),
+                lineTokenizer.isIncompleteAfter(line));
+        }
+    }
+
+    private static void assertSplitLikePattern(String regex, LineTokenizer lineTokenizer, String[] contents) {
+        Pattern pattern = Pattern.compile(regex);
+        LineTokens lineTokens = new LineTokens();
+
+        for (String content : contents) {
+            String[] expected = pattern.split(content);
+            lineTokenizer.tokenize(content, lineTokens);
+
+            Assert.assertEquals("Columns of '" + content + "'", expected.length, lineTokens.size());
+
+            for (int i = 0; i < expected.length; i++) {
+                Assert.assertEquals("Column of '" + content + "'", expected[i], lineTokens.getColumn(i));
+            }
+        }
+    }
+
+}